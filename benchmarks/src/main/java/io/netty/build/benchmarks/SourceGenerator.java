@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+
+/**
+ * Generates large, compilable Java sources which look like Netty code for the checkstyle benchmarks.
+ */
+public final class SourceGenerator {
+
+    /**
+     * How lines are terminated in the generated source.
+     */
+    public enum LineEndings {
+        LF,
+        CRLF,
+        // Mostly LF with a CRLF every now and then, the typical result of a broken merge.
+        MIXED
+    }
+
+    private static final String HEADER =
+            "/*\n" +
+            " * Copyright 2026 The Netty Project\n" +
+            " *\n" +
+            " * The Netty Project licenses this file to you under the Apache License,\n" +
+            " * version 2.0 (the \"License\"); you may not use this file except in compliance\n" +
+            " * with the License. You may obtain a copy of the License at:\n" +
+            " *\n" +
+            " *   http://www.apache.org/licenses/LICENSE-2.0\n" +
+            " *\n" +
+            " * Unless required by applicable law or agreed to in writing, software\n" +
+            " * distributed under the License is distributed on an \"AS IS\" BASIS, WITHOUT\n" +
+            " * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the\n" +
+            " * License for the specific language governing permissions and limitations\n" +
+            " * under the License.\n" +
+            " */\n" +
+            "package io.netty.handler.codec.generated;\n" +
+            "\n" +
+            "import io.netty.buffer.ByteBuf;\n" +
+            "import io.netty.buffer.Unpooled;\n" +
+            "import io.netty.util.CharsetUtil;\n" +
+            "\n" +
+            "import static io.netty.buffer.Unpooled.unreleasableBuffer;\n" +
+            "\n" +
+            "/**\n" +
+            " * Generated benchmark input.\n" +
+            " */\n" +
+            "public final class GeneratedConstants {\n";
+
+    private SourceGenerator() {
+    }
+
+    /**
+     * Generates a class with roughly {@code lines} lines, made of static final buffer constants in all the forms
+     * seen in Netty (valid ones, line-wrapped ones, commented ones and invalid ones) followed by ordinary methods.
+     */
+    public static String generate(int lines, LineEndings lineEndings) {
+        Random random = new Random(lines);
+        StringBuilder sb = new StringBuilder(lines * 48);
+        sb.append(HEADER);
+        // Lines of each constant form generated below.
+        int[] constantLines = { 1, 4, 2, 1, 1, 1 };
+        int count = countLines(HEADER);
+        int i = 0;
+        while (count < lines / 2) {
+            count += constantLines[i % 6];
+            switch (i % 6) {
+            case 0:
+                sb.append("    private static final ByteBuf BUF_").append(i)
+                  .append(" = Unpooled.unreleasableBuffer(Unpooled.directBuffer(").append(random.nextInt(1024))
+                  .append(")).asReadOnly();\n");
+                break;
+            case 1:
+                sb.append("    static final ByteBuf BUF_").append(i).append(" =\n")
+                  .append("            unreleasableBuffer(\n")
+                  .append("                    Unpooled.copiedBuffer(\"").append(Integer.toHexString(random.nextInt()))
+                  .append("\", CharsetUtil.US_ASCII))\n")
+                  .append("            .asReadOnly();\n");
+                break;
+            case 2:
+                sb.append("    // Keep in sync with the RFC (see section ").append(i).append(")\n")
+                  .append("    private static final ByteBuf BUF_").append(i)
+                  .append(" = Unpooled.unreleasableBuffer( /* crlf */ Unpooled.wrappedBuffer(new byte[] { '\\r', ")
+                  .append("'\\n' })).asReadOnly();\n");
+                break;
+            case 3:
+                // Not read-only, reported by StaticFinalBufferCheck.
+                sb.append("    private static final ByteBuf BUF_").append(i)
+                  .append(" = Unpooled.directBuffer(").append(random.nextInt(64)).append(");\n");
+                break;
+            case 4:
+                sb.append("    private static final int CONSTANT_").append(i).append(" = ").append(random.nextInt())
+                  .append(";\n");
+                break;
+            default:
+                sb.append("    private final ByteBuf buffer").append(i).append(" = Unpooled.buffer();\n");
+                break;
+            }
+            i++;
+        }
+        sb.append('\n');
+        count++;
+        while (count < lines - 1) {
+            count += 10;
+            sb.append("    /**\n")
+              .append("     * Returns the sum of {@code a} and the constant.\n")
+              .append("     */\n")
+              .append("    public static int method").append(i).append("(int a) {\n")
+              .append("        if (a < 0) {\n")
+              .append("            throw new IllegalArgumentException(\"a: \" + a + \" (expected: >= 0)\");\n")
+              .append("        }\n")
+              .append("        return a + ").append(random.nextInt(1000)).append(";\n")
+              .append("    }\n")
+              .append('\n');
+            i++;
+        }
+        sb.append("}\n");
+        return applyLineEndings(sb, lineEndings);
+    }
+
+    /**
+     * Writes the source to a temporary file which is deleted on exit.
+     */
+    public static File write(String source) throws IOException {
+        File file = File.createTempFile("GeneratedConstants", ".java");
+        file.deleteOnExit();
+        Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static String applyLineEndings(CharSequence source, LineEndings lineEndings) {
+        if (lineEndings == LineEndings.LF) {
+            return source.toString();
+        }
+        StringBuilder sb = new StringBuilder(source.length() + source.length() / 16);
+        int line = 0;
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == '\n' && (lineEndings == LineEndings.CRLF || line++ % 50 == 49)) {
+                sb.append('\r');
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static int countLines(String str) {
+        int count = 0;
+        for (int i = 0; i < str.length(); i++) {
+            if (str.charAt(i) == '\n') {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+import io.netty.build.benchmarks.AbstractBenchmark;
+import io.netty.build.benchmarks.SourceGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.SortedSet;
+
+/**
+ * Measures {@link NewlineCheck} on a large generated source.
+ */
+public class NewlineCheckBenchmark extends AbstractBenchmark {
+
+    @Param({ "LF", "CRLF", "MIXED" })
+    public SourceGenerator.LineEndings lineEndings;
+
+    @Param({ "10000" })
+    public int lines;
+
+    private NewlineCheck check;
+    private File file;
+    private FileText fileText;
+
+    @Setup
+    public void setup() throws IOException, CheckstyleException {
+        check = new NewlineCheck();
+        check.configure(new DefaultConfiguration(NewlineCheck.class.getName()));
+        file = SourceGenerator.write(SourceGenerator.generate(lines, lineEndings));
+        fileText = new FileText(file, "UTF-8");
+    }
+
+    @Benchmark
+    public SortedSet<Violation> process() throws CheckstyleException {
+        return check.process(file, fileText);
+    }
+}
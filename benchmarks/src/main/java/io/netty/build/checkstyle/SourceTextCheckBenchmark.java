@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.checks.NewlineAtEndOfFileCheck;
+import com.puppycrawl.tools.checkstyle.checks.regexp.RegexpMultilineCheck;
+import com.puppycrawl.tools.checkstyle.checks.regexp.RegexpSinglelineCheck;
+import com.puppycrawl.tools.checkstyle.checks.whitespace.FileTabCharacterCheck;
+import io.netty.build.benchmarks.AbstractBenchmark;
+import io.netty.build.benchmarks.SourceGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Compares {@link SourceTextCheck} with the separate modules it replaces in {@code io/netty/checkstyle.xml}.
+ */
+public class SourceTextCheckBenchmark extends AbstractBenchmark {
+
+    @Param({ "10000" })
+    public int lines;
+
+    private File file;
+    private FileText fileText;
+    private AbstractFileSetCheck sourceTextCheck;
+    private AbstractFileSetCheck[] modules;
+
+    @Setup
+    public void setup() throws IOException, CheckstyleException {
+        file = SourceGenerator.write(SourceGenerator.generate(lines, SourceGenerator.LineEndings.LF));
+        fileText = new FileText(file, "UTF-8");
+        sourceTextCheck = module(new SourceTextCheck());
+        modules = new AbstractFileSetCheck[] {
+                module(new FileTabCharacterCheck()),
+                module(new NewlineAtEndOfFileCheck()),
+                module(new RegexpSinglelineCheck(),
+                        "format", "^(\\s|\\*|#)*Copyright\\s+[0-9]+\\s+The Netty Project\\s*$",
+                        "minimum", "1", "maximum", "1", "message", "missing copyright header"),
+                module(new RegexpSinglelineCheck(),
+                        "format", "(@(author|version)|\\(non-Javadoc\\))", "ignoreCase", "true",
+                        "message", "unmaintainable Javadoc tags: @author, @version, or (non-Javadoc)"),
+                module(new RegexpSinglelineCheck(),
+                        "format", "File \\| Settings \\| File Templates", "message", "IDE-generated comment"),
+                module(new RegexpSinglelineCheck(), "format", "\\s+$", "message", "trailing whitespace"),
+                module(new RegexpMultilineCheck(),
+                        "format", "\\n *(?!package )(?!import )[^\\n]+\\n{3,}",
+                        "message", "two or more consecutive empty lines"),
+                module(new RegexpMultilineCheck(),
+                        "format", "\\n\\n\\s+\\}[^\\n]{0,10}\\n", "message", "an empty line before '}'"),
+                module(new RegexpMultilineCheck(),
+                        "format", "\\n\\s+[^\\n]{1,8}\\{\\n\\n",
+                        "message", "an empty line after a short line that ends with '{'"),
+        };
+    }
+
+    private static AbstractFileSetCheck module(AbstractFileSetCheck check, String... properties)
+            throws CheckstyleException {
+        DefaultConfiguration config = new DefaultConfiguration(check.getClass().getName());
+        for (int i = 0; i < properties.length; i += 2) {
+            config.addProperty(properties[i], properties[i + 1]);
+        }
+        check.configure(config);
+        // The regexp checks create their detector here.
+        check.beginProcessing("UTF-8");
+        return check;
+    }
+
+    @Benchmark
+    public int sourceTextCheck() throws CheckstyleException {
+        return sourceTextCheck.process(file, fileText).size();
+    }
+
+    @Benchmark
+    public int modules() throws CheckstyleException {
+        int violations = 0;
+        for (AbstractFileSetCheck module : modules) {
+            violations += module.process(file, fileText).size();
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.JavaParser;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import io.netty.build.benchmarks.AbstractBenchmark;
+import io.netty.build.benchmarks.SourceGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures {@link StaticFinalBufferCheck} on a pre-parsed AST with many buffer constants. The tree is walked like
+ * {@code TreeWalker} does, so only the cost of the check itself is measured.
+ */
+public class StaticFinalBufferCheckBenchmark extends AbstractBenchmark {
+
+    @Param({ "10000" })
+    public int lines;
+
+    private StaticFinalBufferCheck check;
+    private DetailAST root;
+    // Nodes in visiting order, leaving a node is encoded as a null followed by the node.
+    private DetailAST[] events;
+
+    @Setup
+    public void setup() throws IOException, CheckstyleException {
+        File file = SourceGenerator.write(SourceGenerator.generate(lines, SourceGenerator.LineEndings.LF));
+        FileContents contents = new FileContents(new FileText(file, "UTF-8"));
+        root = JavaParser.parse(contents);
+        check = new StaticFinalBufferCheck();
+        check.configure(new DefaultConfiguration(StaticFinalBufferCheck.class.getName()));
+        check.setFileContents(contents);
+
+        int[] tokens = check.getDefaultTokens();
+        List<DetailAST> list = new ArrayList<DetailAST>();
+        for (DetailAST ast = root; ast != null; ast = ast.getNextSibling()) {
+            collect(ast, tokens, list);
+        }
+        events = list.toArray(new DetailAST[0]);
+    }
+
+    private static void collect(DetailAST ast, int[] tokens, List<DetailAST> list) {
+        boolean interested = false;
+        for (int token : tokens) {
+            if (ast.getType() == token) {
+                interested = true;
+                break;
+            }
+        }
+        if (interested) {
+            list.add(ast);
+        }
+        for (DetailAST child = ast.getFirstChild(); child != null; child = child.getNextSibling()) {
+            collect(child, tokens, list);
+        }
+        if (interested) {
+            list.add(null);
+            list.add(ast);
+        }
+    }
+
+    @Benchmark
+    public int walk() {
+        check.beginTree(root);
+        DetailAST[] events = this.events;
+        for (int i = 0; i < events.length; i++) {
+            DetailAST ast = events[i];
+            if (ast == null) {
+                check.leaveToken(events[++i]);
+            } else {
+                check.visitToken(ast);
+            }
+        }
+        check.finishTree(root);
+        int violations = check.getViolations().size();
+        check.clearViolations();
+        return violations;
+    }
+}
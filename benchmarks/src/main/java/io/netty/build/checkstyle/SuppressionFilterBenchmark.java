@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+import com.puppycrawl.tools.checkstyle.checks.annotation.MissingOverrideCheck;
+import com.puppycrawl.tools.checkstyle.checks.design.HideUtilityClassConstructorCheck;
+import com.puppycrawl.tools.checkstyle.checks.javadoc.JavadocPackageCheck;
+import com.puppycrawl.tools.checkstyle.checks.sizes.LineLengthCheck;
+import com.puppycrawl.tools.checkstyle.checks.whitespace.WhitespaceAroundCheck;
+import io.netty.build.benchmarks.AbstractBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.Random;
+
+/**
+ * Measures {@link SuppressionFilter#accept(AuditEvent)} with the event stream of a Netty build: many files with
+ * many violations each, delivered file by file just like {@code Checker} does.
+ */
+public class SuppressionFilterBenchmark extends AbstractBenchmark {
+
+    // The pattern configured in io/netty/checkstyle.xml.
+    private static final String PATTERN =
+            "((LocalTime|WorldClock)Protocol|LinkedTransferQueue|Version|jzlib/.*|chmv8/.*|com/sun/nio/sctp/.*)\\.java";
+
+    private static final String[] MODULES = {
+            "buffer", "codec", "codec-http", "codec-http2", "handler", "transport", "transport-native-epoll",
+            "example", "common", "resolver-dns"
+    };
+    private static final Class<?>[] SOURCES = {
+            WhitespaceAroundCheck.class, LineLengthCheck.class, MissingOverrideCheck.class,
+            JavadocPackageCheck.class, HideUtilityClassConstructorCheck.class
+    };
+
+    @Param({ "2000" })
+    public int files;
+
+    @Param({ "1", "50" })
+    public int eventsPerFile;
+
+    private SuppressionFilter filter;
+    private AuditEvent[] events;
+
+    @Setup
+    public void setup() {
+        filter = new SuppressionFilter();
+        filter.setPattern(PATTERN);
+
+        Random random = new Random(files);
+        events = new AuditEvent[files * eventsPerFile];
+        int n = 0;
+        for (int i = 0; i < files; i++) {
+            String module = MODULES[random.nextInt(MODULES.length)];
+            String separator = random.nextInt(10) == 0 ? "\\" : "/";
+            String fileName = ("/home/ci/netty/" + module + "/src/main/java/io/netty/" + module.replace('-', '/') +
+                    "/internal/Generated" + i + (i % 97 == 0 ? "Version" : "") + ".java").replace("/", separator);
+            for (int j = 0; j < eventsPerFile; j++) {
+                Class<?> source = SOURCES[random.nextInt(SOURCES.length)];
+                Violation violation = new Violation(j + 1, 1, "messages", "key", null, SeverityLevel.ERROR, null,
+                        source, "message");
+                events[n++] = new AuditEvent(this, fileName, violation);
+            }
+        }
+    }
+
+    @Benchmark
+    public int accept() {
+        int accepted = 0;
+        for (AuditEvent event : events) {
+            if (filter.accept(event)) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven;
+
+import io.netty.build.benchmarks.AbstractBenchmark;
+import org.apache.maven.plugin.MojoFailureException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * Measures {@link GlibcVersionCheckMojo#check} for objdump output and for symbol versions read with
+ * {@link ElfReader} from a real shared library. The objdump output is generated to look like the dynamic symbol
+ * tables of Netty's native libraries, from the small transport libraries up to statically linked tcnative.
+ *
+ * The {@code elf} benchmark reads {@code library}, by default {@code libjava.so} of the running JVM. The
+ * {@code symbols} parameter only applies to {@code objdump}.
+ */
+public class GlibcVersionCheckBenchmark extends AbstractBenchmark {
+
+    private static final String[] VERSIONS = {
+            "2.2.5", "2.2.5", "2.2.5", "2.2.5", "2.3.2", "2.3.4", "2.5", "2.7", "2.8", "2.9", "2.10"
+    };
+
+    @Param({ "100", "5000" })
+    public int symbols;
+
+    // 2.10 passes, 2.8 fails with a few percent of the symbols reported.
+    @Param({ "2.10", "2.8" })
+    public String maxGlibcVersion;
+
+    // An ELF shared library, empty for libjava.so of the running JVM.
+    @Param({ "" })
+    public String library;
+
+    private int major;
+    private int minor;
+    private String objdumpOutput;
+    private ByteBuffer libraryContent;
+
+    @Setup
+    public void setup() throws IOException {
+        String[] parts = maxGlibcVersion.split("\\.");
+        major = Integer.parseInt(parts[0]);
+        minor = Integer.parseInt(parts[1]);
+
+        Random random = new Random(symbols);
+        StringBuilder sb = new StringBuilder(symbols * 80);
+        sb.append("\n/tmp/libnetty_tcnative_linux_x86_64.so:     file format elf64-x86-64\n\n")
+          .append("DYNAMIC SYMBOL TABLE:\n")
+          .append("0000000000003a60 l    d  .init\t0000000000000000              .init\n");
+        for (int i = 0; i < symbols; i++) {
+            String function = "function_" + Integer.toHexString(random.nextInt());
+            if (i % 3 == 0) {
+                // Exported symbols of the library itself.
+                sb.append("0000000000006fa0 g    DF .text\t0000000000000099  Base        ").append(function)
+                  .append('\n');
+            } else {
+                String version = VERSIONS[random.nextInt(VERSIONS.length)];
+                sb.append("0000000000000000      DF *UND*\t0000000000000000  GLIBC_").append(version);
+                for (int j = version.length(); j < 6; j++) {
+                    sb.append(' ');
+                }
+                sb.append(function).append('\n');
+            }
+        }
+        objdumpOutput = sb.toString();
+
+        File file = library.isEmpty() ? findLibrary(new File(System.getProperty("java.home"), "lib")) :
+                new File(library);
+        if (file == null) {
+            throw new IOException("libjava.so not found in " + System.getProperty("java.home") +
+                    ", set the library parameter");
+        }
+        libraryContent = ElfReader.map(file);
+    }
+
+    private static File findLibrary(File directory) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return null;
+        }
+        for (File file : files) {
+            File found = file.isDirectory() ? findLibrary(file) : "libjava.so".equals(file.getName()) ? file : null;
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public boolean objdump() {
+        try {
+            GlibcVersionCheckMojo.check(major, minor, 0, objdumpOutput);
+            return true;
+        } catch (MojoFailureException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean elf() throws IOException {
+        try {
+            GlibcVersionCheckMojo.check(major, minor, 0, new ElfReader(libraryContent).requiredSymbolVersions());
+            return true;
+        } catch (MojoFailureException e) {
+            return false;
+        }
+    }
+}
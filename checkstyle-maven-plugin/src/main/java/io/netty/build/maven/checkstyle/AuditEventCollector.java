@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the events of one {@link com.puppycrawl.tools.checkstyle.Checker} per file, so they can be replayed
+ * later in a stable order.
+ */
+final class AuditEventCollector implements AuditListener {
+
+    private final Map<String, List<AuditEvent>> errors = new HashMap<String, List<AuditEvent>>();
+    private final Map<String, List<Throwable>> exceptions = new HashMap<String, List<Throwable>>();
+
+    /**
+     * Returns the violations of the given file or {@code null} if the file was not checked.
+     */
+    List<AuditEvent> errors(String fileName) {
+        return errors.get(fileName);
+    }
+
+    /**
+     * Returns the exceptions thrown while checking the given file or {@code null} if there were none.
+     */
+    List<Throwable> exceptions(String fileName) {
+        return exceptions.get(fileName);
+    }
+
+    @Override
+    public void auditStarted(AuditEvent event) {
+        // NOOP
+    }
+
+    @Override
+    public void auditFinished(AuditEvent event) {
+        // NOOP
+    }
+
+    @Override
+    public void fileStarted(AuditEvent event) {
+        errors(event);
+    }
+
+    @Override
+    public void fileFinished(AuditEvent event) {
+        // NOOP
+    }
+
+    @Override
+    public void addError(AuditEvent event) {
+        errors(event).add(event);
+    }
+
+    @Override
+    public void addException(AuditEvent event, Throwable throwable) {
+        errors(event);
+        List<Throwable> list = exceptions.get(event.getFileName());
+        if (list == null) {
+            list = new ArrayList<Throwable>(1);
+            exceptions.put(event.getFileName(), list);
+        }
+        list.add(throwable);
+    }
+
+    private List<AuditEvent> errors(AuditEvent event) {
+        List<AuditEvent> list = errors.get(event.getFileName());
+        if (list == null) {
+            list = new ArrayList<AuditEvent>();
+            errors.put(event.getFileName(), list);
+        }
+        return list;
+    }
+}
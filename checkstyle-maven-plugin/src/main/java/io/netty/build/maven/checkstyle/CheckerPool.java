@@ -0,0 +1,257 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.ConfigurationLoader;
+import com.puppycrawl.tools.checkstyle.PropertyResolver;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import io.netty.build.checkstyle.CheckProfiler;
+
+import java.io.File;
+import java.io.UnsupportedEncodingException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Configured {@link Checker}s of one checkstyle configuration, kept for reuse by later executions.
+ *
+ * The pools are static, so they live as long as the class realm of the plugin. Maven keeps that realm for the
+ * whole session, so the configuration and the suppressions are parsed, the checks are instantiated and their
+ * patterns are compiled once per build instead of once per module. A pool is only reused if the configuration
+ * file and the files it refers to, like suppressions and headers, did not change and every property the
+ * configuration refers to still has the same value.
+ *
+ * A build daemon keeps the realm across builds, so only the {@link #MAX_POOLS} most recently used pools are kept
+ * and the checkers of dropped pools are destroyed.
+ */
+final class CheckerPool {
+
+    // Package-private for easy testing
+    static final int MAX_POOLS = 4;
+
+    private static final Map<String, CheckerPool> POOLS = new LinkedHashMap<String, CheckerPool>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CheckerPool> eldest) {
+            if (size() > MAX_POOLS) {
+                eldest.getValue().destroy();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private final String key;
+    private final Map<String, String> resolvedProperties;
+    // Path and stamp of every existing file the configuration refers to.
+    private final Map<File, String> referencedFiles;
+    private final Configuration configuration;
+    private final ClassLoader classLoader;
+    private final String charset;
+    private final CheckProfiler profiler;
+    private final Queue<Checker> idle = new ConcurrentLinkedQueue<Checker>();
+    private final AtomicInteger created = new AtomicInteger();
+
+    private CheckerPool(String key, Map<String, String> resolvedProperties, Map<File, String> referencedFiles,
+                        Configuration configuration, ClassLoader classLoader, String charset,
+                        CheckProfiler profiler) {
+        this.key = key;
+        this.resolvedProperties = resolvedProperties;
+        this.referencedFiles = referencedFiles;
+        this.configuration = configuration;
+        this.classLoader = classLoader;
+        this.charset = charset;
+        this.profiler = profiler;
+    }
+
+    /**
+     * Returns the pool of the configuration at {@code location}, a file, a URL or a resource of the given
+     * {@link ClassLoader}. The configuration is only loaded if there is no matching pool yet.
+     */
+    static CheckerPool get(String location, ClassLoader classLoader, Properties properties, String charset)
+            throws CheckstyleException {
+        String resolved = location;
+        String key;
+        File file = new File(location);
+        if (file.exists()) {
+            key = file.getAbsolutePath() + '@' + stamp(file);
+        } else {
+            URL url = classLoader.getResource(location.startsWith("/") ? location.substring(1) : location);
+            if (url != null) {
+                resolved = url.toString();
+            }
+            key = resolved;
+        }
+        key += '|' + charset + '|' + System.identityHashCode(classLoader);
+
+        synchronized (POOLS) {
+            CheckerPool pool = POOLS.get(key);
+            if (pool != null) {
+                if (pool.matches(properties)) {
+                    return pool;
+                }
+                pool.destroy();
+            }
+            RecordingPropertyResolver resolver = new RecordingPropertyResolver(properties);
+            Configuration configuration = ConfigurationLoader.loadConfiguration(resolved, resolver);
+            Map<File, String> referencedFiles = new HashMap<File, String>();
+            collectReferencedFiles(configuration, referencedFiles);
+            pool = new CheckerPool(key, resolver.resolved, referencedFiles, configuration, classLoader, charset,
+                    null);
+            POOLS.put(key, pool);
+            return pool;
+        }
+    }
+
+    // Any property value naming an existing file, as checkstyle resolves relative paths against the working
+    // directory as well.
+    private static void collectReferencedFiles(Configuration configuration, Map<File, String> referencedFiles)
+            throws CheckstyleException {
+        for (String name : configuration.getPropertyNames()) {
+            File file = new File(configuration.getProperty(name));
+            if (file.isFile()) {
+                referencedFiles.put(file, stamp(file));
+            }
+        }
+        for (Configuration child : configuration.getChildren()) {
+            collectReferencedFiles(child, referencedFiles);
+        }
+    }
+
+    private static String stamp(File file) {
+        return file.lastModified() + ":" + file.length();
+    }
+
+    /**
+     * Returns a new pool of the same configuration whose checkers are measured by the given {@link CheckProfiler}.
+     * It is not shared with later executions.
+     */
+    CheckerPool profile(CheckProfiler profiler) throws CheckstyleException {
+        return new CheckerPool(key + "|profile", resolvedProperties, referencedFiles,
+                profiler.instrument(configuration), classLoader, charset, profiler);
+    }
+
+    /**
+     * Drops all pools, only used by tests.
+     */
+    static void clear() {
+        synchronized (POOLS) {
+            for (CheckerPool pool : POOLS.values()) {
+                pool.destroy();
+            }
+            POOLS.clear();
+        }
+    }
+
+    /**
+     * Destroys the idle {@link Checker}s. Checkers still in use by an execution are released to this pool later
+     * and are not reused by anyone else, as the pool is not shared anymore.
+     */
+    private void destroy() {
+        for (Checker checker = idle.poll(); checker != null; checker = idle.poll()) {
+            checker.destroy();
+        }
+    }
+
+    /**
+     * Returns an idle {@link Checker} or creates a new one. It must be given back via
+     * {@link #release(Checker, boolean)}.
+     */
+    Checker acquire() throws CheckstyleException {
+        Checker checker = idle.poll();
+        if (checker != null) {
+            return checker;
+        }
+        checker = new Checker();
+        checker.setModuleClassLoader(classLoader);
+        if (profiler != null) {
+            checker.setModuleFactory(profiler);
+            checker.addListener(profiler.newListener());
+        }
+        checker.configure(configuration);
+        try {
+            checker.setCharset(charset);
+        } catch (UnsupportedEncodingException e) {
+            throw new CheckstyleException("Unsupported charset: " + charset, e);
+        }
+        created.incrementAndGet();
+        return checker;
+    }
+
+    /**
+     * Gives back a {@link Checker} of {@link #acquire()}. Checkers which failed are destroyed instead of reused.
+     */
+    void release(Checker checker, boolean reusable) {
+        if (reusable) {
+            idle.add(checker);
+        } else {
+            checker.destroy();
+        }
+    }
+
+    /**
+     * Returns the number of {@link Checker}s created by this pool.
+     */
+    int created() {
+        return created.get();
+    }
+
+    private boolean matches(Properties properties) {
+        for (Map.Entry<String, String> entry : resolvedProperties.entrySet()) {
+            String value = properties.getProperty(entry.getKey());
+            if (value == null ? entry.getValue() != null : !value.equals(entry.getValue())) {
+                return false;
+            }
+        }
+        for (Map.Entry<File, String> entry : referencedFiles.entrySet()) {
+            if (!entry.getKey().isFile() || !stamp(entry.getKey()).equals(entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+
+    // Remembers the properties used by a configuration, so unrelated properties like basedir do not prevent reuse.
+    private static final class RecordingPropertyResolver implements PropertyResolver {
+        private final Properties properties;
+        private final Map<String, String> resolved = new HashMap<String, String>();
+
+        RecordingPropertyResolver(Properties properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public String resolve(String name) {
+            String value = properties.getProperty(name);
+            resolved.put(name, value);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.XMLLogger;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AutomaticBean;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import io.netty.build.checkstyle.CheckProfiler;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.codehaus.plexus.util.DirectoryScanner;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Run checkstyle with the netty-build configuration.
+ *
+ * Files are checked on {@code checkstyle.threads} threads, every thread with its own
+ * {@link com.puppycrawl.tools.checkstyle.Checker}. The violations are reported in the same order and with the
+ * same content as a single threaded run, both on the console and in {@code checkstyle.output.file}.
+ *
+ * The configured checkers are kept in a {@link CheckerPool} for the whole session, so later modules do not parse
+ * the configuration and instantiate the checks again.
+ *
+ * With {@code checkstyle.profile} every check and file is measured by a {@link CheckProfiler}, the slowest ones are
+ * logged and all results are written to {@code checkstyle.profile.file} as JSON.
+ *
+ * When {@code checkstyle.baseRef} is set only the files changed since the merge base of that ref and {@code HEAD}
+ * are checked, as reported by the local git repository. Every directory with a changed or deleted file keeps at
+ * least one file, so per-package checks like {@code JavadocPackage} still run for it. Without a repository or an
+ * unknown ref all files are checked. If no file changed, an empty {@code checkstyle.output.file} is written.
+ */
+@Mojo(name = "check", defaultPhase = LifecyclePhase.VALIDATE, threadSafe = true)
+public final class CheckstyleMojo extends AbstractMojo {
+
+    @Parameter( property = "checkstyle.skip", defaultValue = "false")
+    private boolean skip;
+    // A file, a URL or a resource of the plugin classpath.
+    @Parameter( property = "checkstyle.config.location", defaultValue = "io/netty/checkstyle.xml")
+    private String configLocation;
+    @Parameter( defaultValue = "${project.compileSourceRoots}", readonly = true)
+    private List<String> sourceDirectories;
+    @Parameter( defaultValue = "${project.testCompileSourceRoots}", readonly = true)
+    private List<String> testSourceDirectories;
+    @Parameter( property = "checkstyle.includeTestSourceDirectory", defaultValue = "false")
+    private boolean includeTestSourceDirectory;
+    @Parameter( property = "checkstyle.includes", defaultValue = "**/*.java")
+    private String includes;
+    @Parameter( property = "checkstyle.excludes")
+    private String excludes;
+    @Parameter( property = "encoding", defaultValue = "${project.build.sourceEncoding}")
+    private String encoding;
+    @Parameter( property = "checkstyle.output.file", defaultValue = "${project.build.directory}/checkstyle-result.xml")
+    private File outputFile;
+    @Parameter( property = "checkstyle.failOnViolation", defaultValue = "true")
+    private boolean failOnViolation;
+    @Parameter( property = "checkstyle.violationSeverity", defaultValue = "error")
+    private String violationSeverity;
+    @Parameter( property = "checkstyle.logViolationsToConsole", defaultValue = "true")
+    private boolean logViolationsToConsole;
+    // Number of threads to check files on, 0 means one per available processor.
+    @Parameter( property = "checkstyle.threads", defaultValue = "0")
+    private int threads;
+    @Parameter( defaultValue = "${basedir}", readonly = true)
+    private File basedir;
+    // Only check the files changed since the merge base of this ref and HEAD, e.g. origin/main.
+    @Parameter( property = "checkstyle.baseRef")
+    private String baseRef;
+    @Parameter( property = "checkstyle.git", defaultValue = "git")
+    private String git;
+    // Measure every check and file and write the results to checkstyle.profile.file.
+    @Parameter( property = "checkstyle.profile", defaultValue = "false")
+    private boolean profile;
+    @Parameter( property = "checkstyle.profile.file",
+            defaultValue = "${project.build.directory}/checkstyle-profile.json")
+    private File profileFile;
+    // Number of the slowest checks and files to log.
+    @Parameter( property = "checkstyle.profile.top", defaultValue = "10")
+    private int profileTop;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (skip) {
+            getLog().info("Skipping checkstyle");
+            return;
+        }
+        SeverityLevel severity;
+        try {
+            severity = SeverityLevel.getInstance(violationSeverity);
+        } catch (IllegalArgumentException e) {
+            throw new MojoExecutionException("Unknown violationSeverity: " + violationSeverity, e);
+        }
+        List<File> files = files();
+        boolean changedOnly = baseRef != null && !baseRef.isEmpty() && !files.isEmpty();
+        if (changedOnly) {
+            files = changedFiles(files);
+        }
+        if (files.isEmpty()) {
+            getLog().info("No files to check");
+            // Replace the result of an earlier run, it would report violations that are not there anymore.
+            if (changedOnly || outputFile != null && outputFile.exists()) {
+                writeReport(new CheckstyleResult(files, Collections.<AuditEventCollector>emptyList()));
+            }
+            return;
+        }
+
+        CheckstyleResult result;
+        try {
+            String charset = encoding == null || encoding.isEmpty() ? "UTF-8" : encoding;
+            CheckerPool pool = CheckerPool.get(configLocation, getClass().getClassLoader(), properties(), charset);
+            CheckProfiler profiler = null;
+            if (profile) {
+                profiler = new CheckProfiler(getClass().getClassLoader());
+                pool = pool.profile(profiler);
+            }
+            int created = pool.created();
+            result = new ParallelChecker(pool, threads).check(files);
+            getLog().debug("Created " + (pool.created() - created) + " checker(s) for " + pool);
+            if (profiler != null) {
+                writeProfile(profiler);
+            }
+        } catch (CheckstyleException e) {
+            throw new MojoExecutionException("Unable to run checkstyle", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted while running checkstyle", e);
+        }
+
+        writeReport(result);
+        if (logViolationsToConsole) {
+            for (AuditEvent event : result.errors()) {
+                if (event.getSeverityLevel() == SeverityLevel.IGNORE) {
+                    continue;
+                }
+                String message = format(event);
+                if (event.getSeverityLevel().compareTo(severity) >= 0) {
+                    getLog().error(message);
+                } else {
+                    getLog().warn(message);
+                }
+            }
+        }
+        int violations = result.count(severity);
+        getLog().info("Checked " + result.files() + " files, " + violations + " violation(s)");
+        if (violations > 0 && failOnViolation) {
+            throw new MojoFailureException("You have " + violations + " Checkstyle violation(s).");
+        }
+    }
+
+    private List<File> files() {
+        List<File> files = new ArrayList<File>();
+        scan(sourceDirectories, files);
+        if (includeTestSourceDirectory) {
+            scan(testSourceDirectories, files);
+        }
+        return files;
+    }
+
+    private List<File> changedFiles(List<File> files) throws MojoExecutionException {
+        GitChanges changes;
+        try {
+            changes = GitChanges.of(git, basedir, baseRef);
+        } catch (IOException e) {
+            getLog().warn("Unable to collect the files changed since " + baseRef + ", checking all files", e);
+            return files;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted while running git", e);
+        }
+        List<File> changed = changes.filter(files);
+        getLog().info("Checking " + changed.size() + " of " + files.size() + " files, " + changes.size() +
+                " file(s) changed since " + baseRef);
+        return changed;
+    }
+
+    private void scan(List<String> directories, List<File> files) {
+        if (directories == null) {
+            return;
+        }
+        for (String directory : directories) {
+            File dir = new File(directory);
+            if (!dir.isDirectory()) {
+                getLog().debug(dir + " is not a directory, no files collected from it");
+                continue;
+            }
+            DirectoryScanner scanner = new DirectoryScanner();
+            scanner.setBasedir(dir);
+            scanner.setIncludes(split(includes));
+            if (excludes != null && !excludes.isEmpty()) {
+                scanner.setExcludes(split(excludes));
+            }
+            scanner.addDefaultExcludes();
+            scanner.scan();
+            String[] included = scanner.getIncludedFiles();
+            List<File> dirFiles = new ArrayList<File>(included.length);
+            for (String file : included) {
+                dirFiles.add(new File(dir, file));
+            }
+            Collections.sort(dirFiles);
+            files.addAll(dirFiles);
+        }
+    }
+
+    private static String[] split(String patterns) {
+        String[] split = patterns.split(",");
+        for (int i = 0; i < split.length; i++) {
+            split[i] = split[i].trim();
+        }
+        return split;
+    }
+
+    private Properties properties() {
+        Properties properties = new Properties();
+        properties.putAll(System.getProperties());
+        if (basedir != null) {
+            properties.setProperty("basedir", basedir.getAbsolutePath());
+        }
+        return properties;
+    }
+
+    private void writeReport(CheckstyleResult result) throws MojoExecutionException {
+        if (outputFile == null) {
+            return;
+        }
+        File parent = outputFile.getAbsoluteFile().getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs()) {
+            throw new MojoExecutionException("Unable to create " + parent);
+        }
+        try {
+            OutputStream out = new FileOutputStream(outputFile);
+            // The logger closes the stream when the audit is finished.
+            result.replay(new XMLLogger(out, AutomaticBean.OutputStreamOptions.CLOSE));
+        } catch (IOException e) {
+            throw new MojoExecutionException("Unable to write " + outputFile, e);
+        }
+    }
+
+    private void writeProfile(CheckProfiler profiler) throws MojoExecutionException {
+        for (String line : profiler.summary(profileTop)) {
+            getLog().info(line);
+        }
+        File parent = profileFile.getAbsoluteFile().getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs()) {
+            throw new MojoExecutionException("Unable to create " + parent);
+        }
+        try {
+            Writer out = new OutputStreamWriter(new FileOutputStream(profileFile), StandardCharsets.UTF_8);
+            try {
+                profiler.writeJson(out);
+            } finally {
+                out.close();
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException("Unable to write " + profileFile, e);
+        }
+        getLog().info("Wrote checkstyle profile to " + profileFile);
+    }
+
+    private static String format(AuditEvent event) {
+        StringBuilder sb = new StringBuilder(event.getFileName()).append(":[").append(event.getLine());
+        if (event.getColumn() > 0) {
+            sb.append(',').append(event.getColumn());
+        }
+        sb.append("] ");
+        String source = event.getSourceName();
+        int i = source.lastIndexOf('.');
+        if (i >= 0) {
+            int j = source.lastIndexOf('.', i - 1);
+            sb.append('(').append(source.substring(j + 1, i).toLowerCase(Locale.ROOT)).append(") ");
+        }
+        String module = event.getModuleId() != null ? event.getModuleId() : source.substring(i + 1);
+        if (module.endsWith("Check")) {
+            module = module.substring(0, module.length() - "Check".length());
+        }
+        return sb.append(module).append(": ").append(event.getMessage()).toString();
+    }
+}
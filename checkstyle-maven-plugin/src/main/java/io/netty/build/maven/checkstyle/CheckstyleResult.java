@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The violations of a {@link ParallelChecker} run, in the order the files were given.
+ */
+final class CheckstyleResult {
+
+    private final List<String> fileNames = new ArrayList<String>();
+    private final List<List<AuditEvent>> errors = new ArrayList<List<AuditEvent>>();
+    private final List<List<Throwable>> exceptions = new ArrayList<List<Throwable>>();
+
+    CheckstyleResult(Collection<File> files, Collection<AuditEventCollector> collectors) {
+        for (File file : files) {
+            String fileName = file.getAbsolutePath();
+            for (AuditEventCollector collector : collectors) {
+                List<AuditEvent> fileErrors = collector.errors(fileName);
+                if (fileErrors != null) {
+                    List<Throwable> fileExceptions = collector.exceptions(fileName);
+                    fileNames.add(fileName);
+                    errors.add(fileErrors);
+                    exceptions.add(fileExceptions == null ? Collections.<Throwable>emptyList() : fileExceptions);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of checked files.
+     */
+    int files() {
+        return fileNames.size();
+    }
+
+    /**
+     * Returns all violations, ordered by file.
+     */
+    List<AuditEvent> errors() {
+        List<AuditEvent> all = new ArrayList<AuditEvent>();
+        for (List<AuditEvent> fileErrors : errors) {
+            all.addAll(fileErrors);
+        }
+        return all;
+    }
+
+    /**
+     * Returns the number of violations with the given severity or a higher one.
+     */
+    int count(SeverityLevel severity) {
+        int count = 0;
+        for (List<AuditEvent> fileErrors : errors) {
+            for (AuditEvent event : fileErrors) {
+                SeverityLevel level = event.getSeverityLevel();
+                if (level != SeverityLevel.IGNORE && level.compareTo(severity) >= 0) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Fires the events of a single audit of all files to the given listener, as a
+     * {@link com.puppycrawl.tools.checkstyle.Checker} would do.
+     */
+    void replay(AuditListener listener) {
+        listener.auditStarted(new AuditEvent(this));
+        for (int i = 0; i < fileNames.size(); i++) {
+            String fileName = fileNames.get(i);
+            listener.fileStarted(new AuditEvent(this, fileName));
+            for (AuditEvent event : errors.get(i)) {
+                listener.addError(event);
+            }
+            for (Throwable throwable : exceptions.get(i)) {
+                listener.addException(new AuditEvent(this, fileName), throwable);
+            }
+            listener.fileFinished(new AuditEvent(this, fileName));
+        }
+        listener.auditFinished(new AuditEvent(this));
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven.checkstyle;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The files of a local git working tree which differ from a base ref, including uncommitted and untracked files.
+ * Only the local repository is used, so this works offline.
+ */
+final class GitChanges {
+
+    private final Set<File> changed;
+
+    GitChanges(Collection<File> changed) {
+        this.changed = new HashSet<File>(changed.size());
+        for (File file : changed) {
+            this.changed.add(canonical(file));
+        }
+    }
+
+    /**
+     * Collects the files changed since the merge base of {@code baseRef} and {@code HEAD} in the repository that
+     * contains {@code directory}. Throws an {@link IOException} if there is no repository or the ref is unknown.
+     */
+    static GitChanges of(String git, File directory, String baseRef) throws IOException, InterruptedException {
+        File root = new File(run(directory, git, "rev-parse", "--show-toplevel").trim());
+        String base = run(root, git, "merge-base", baseRef, "HEAD").trim();
+        List<File> changed = new ArrayList<File>();
+        // Renames are reported as a deletion and an addition, so the old directory is affected as well.
+        for (String path : split(run(root, git, "diff", "--name-only", "--no-renames", "-z", base))) {
+            changed.add(new File(root, path));
+        }
+        for (String path : split(run(root, git, "ls-files", "--others", "--exclude-standard", "-z"))) {
+            changed.add(new File(root, path));
+        }
+        return new GitChanges(changed);
+    }
+
+    /**
+     * Returns the number of changed files, including deleted ones.
+     */
+    int size() {
+        return changed.size();
+    }
+
+    /**
+     * Returns the files which need to be checked, in the order of {@code files}: all changed files and, for every
+     * directory with a changed or deleted file, at least one of its files so per-package checks like
+     * {@code JavadocPackage} are evaluated again.
+     */
+    List<File> filter(List<File> files) {
+        Set<File> affected = new HashSet<File>();
+        for (File file : changed) {
+            affected.add(file.getParentFile());
+        }
+        List<File> canonicalFiles = new ArrayList<File>(files.size());
+        Set<File> covered = new HashSet<File>();
+        for (File file : files) {
+            File canonical = canonical(file);
+            canonicalFiles.add(canonical);
+            if (changed.contains(canonical)) {
+                covered.add(canonical.getParentFile());
+            }
+        }
+        Set<File> filtered = new LinkedHashSet<File>();
+        for (int i = 0; i < files.size(); i++) {
+            File canonical = canonicalFiles.get(i);
+            File directory = canonical.getParentFile();
+            if (changed.contains(canonical) || affected.contains(directory) && covered.add(directory)) {
+                filtered.add(files.get(i));
+            }
+        }
+        return new ArrayList<File>(filtered);
+    }
+
+    // Git reports paths below the real path of the repository, source roots may contain symbolic links.
+    private static File canonical(File file) {
+        try {
+            return file.getCanonicalFile();
+        } catch (IOException e) {
+            return file.getAbsoluteFile();
+        }
+    }
+
+    private static List<String> split(String output) {
+        List<String> paths = new ArrayList<String>(Arrays.asList(output.split("\0")));
+        paths.remove("");
+        return paths;
+    }
+
+    private static String run(File directory, String... command) throws IOException, InterruptedException {
+        ProcessBuilder builder = new ProcessBuilder(command);
+        builder.directory(directory);
+        builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+        Process process = builder.start();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        InputStream in = process.getInputStream();
+        try {
+            byte[] bytes = new byte[8192];
+            int i;
+            while ((i = in.read(bytes)) != -1) {
+                out.write(bytes, 0, i);
+            }
+        } finally {
+            in.close();
+        }
+        int rcode = process.waitFor();
+        if (rcode != 0) {
+            throw new IOException(Arrays.toString(command) + " exit with return code " + rcode);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs a checkstyle configuration over many files on several threads. Every worker uses its own {@link Checker}
+ * of a {@link CheckerPool}, so no module instance is ever used by two threads at the same time.
+ *
+ * Files are handed out per directory, so checks which report once per package, like {@code JavadocPackage}, see
+ * the same files as with a single {@link Checker}. Larger directories are handed out first to keep all workers
+ * busy until the end.
+ */
+final class ParallelChecker {
+
+    private final CheckerPool pool;
+    private final int threads;
+
+    ParallelChecker(CheckerPool pool, int threads) {
+        this.pool = pool;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Checks the given files and returns the violations of all of them in the order of {@code files}.
+     */
+    CheckstyleResult check(List<File> files) throws CheckstyleException, InterruptedException {
+        Queue<List<File>> directories = new ConcurrentLinkedQueue<List<File>>(groupByDirectory(files));
+        int nThreads = Math.min(threads, directories.size());
+        List<AuditEventCollector> results = new ArrayList<AuditEventCollector>();
+        if (nThreads <= 1) {
+            results.add(new Worker(directories).call());
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+            try {
+                List<Future<AuditEventCollector>> futures = new ArrayList<Future<AuditEventCollector>>(nThreads);
+                for (int i = 0; i < nThreads; i++) {
+                    futures.add(executor.submit(new Worker(directories)));
+                }
+                for (Future<AuditEventCollector> future : futures) {
+                    results.add(future.get());
+                }
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof CheckstyleException) {
+                    throw (CheckstyleException) cause;
+                }
+                throw new CheckstyleException("Unable to run checkstyle", cause);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        return new CheckstyleResult(files, results);
+    }
+
+    private static List<List<File>> groupByDirectory(List<File> files) {
+        Map<File, List<File>> directories = new LinkedHashMap<File, List<File>>();
+        for (File file : files) {
+            File directory = file.getAbsoluteFile().getParentFile();
+            List<File> group = directories.get(directory);
+            if (group == null) {
+                group = new ArrayList<File>();
+                directories.put(directory, group);
+            }
+            group.add(file);
+        }
+        List<List<File>> groups = new ArrayList<List<File>>(directories.values());
+        Collections.sort(groups, new Comparator<List<File>>() {
+            @Override
+            public int compare(List<File> o1, List<File> o2) {
+                long size1 = size(o1);
+                long size2 = size(o2);
+                return size1 < size2 ? 1 : size1 == size2 ? 0 : -1;
+            }
+        });
+        return groups;
+    }
+
+    private static long size(List<File> files) {
+        long size = 0;
+        for (File file : files) {
+            size += file.length();
+        }
+        return size;
+    }
+
+    private final class Worker implements Callable<AuditEventCollector> {
+        private final Queue<List<File>> directories;
+
+        Worker(Queue<List<File>> directories) {
+            this.directories = directories;
+        }
+
+        @Override
+        public AuditEventCollector call() throws CheckstyleException {
+            Checker checker = pool.acquire();
+            AuditEventCollector collector = new AuditEventCollector();
+            checker.addListener(collector);
+            boolean success = false;
+            try {
+                List<File> directory;
+                while ((directory = directories.poll()) != null) {
+                    checker.process(directory);
+                }
+                success = true;
+            } finally {
+                checker.removeListener(collector);
+                pool.release(checker, success);
+            }
+            return collector;
+        }
+    }
+}
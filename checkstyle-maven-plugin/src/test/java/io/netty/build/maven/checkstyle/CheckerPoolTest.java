@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class CheckerPoolTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @After
+    public void tearDown() {
+        CheckerPool.clear();
+    }
+
+    @Test
+    public void testReuse() throws Exception {
+        ClassLoader classLoader = getClass().getClassLoader();
+        Properties properties = new Properties();
+        properties.setProperty("basedir", "/a");
+        CheckerPool pool = CheckerPool.get("io/netty/checkstyle.xml", classLoader, properties, "UTF-8");
+
+        // basedir is not used by the configuration, so it does not matter.
+        properties.setProperty("basedir", "/b");
+        assertSame(pool, CheckerPool.get("/io/netty/checkstyle.xml", classLoader, properties, "UTF-8"));
+        assertNotSame(pool, CheckerPool.get("io/netty/checkstyle.xml", classLoader, properties, "ISO-8859-1"));
+
+        Checker checker = pool.acquire();
+        pool.release(checker, true);
+        assertSame(checker, pool.acquire());
+        pool.release(checker, false);
+        assertNotSame(checker, pool.acquire());
+        assertEquals(2, pool.created());
+    }
+
+    @Test
+    public void testResolvedProperties() throws Exception {
+        File config = folder.newFile("checkstyle.xml");
+        write(config, "${severity}");
+        ClassLoader classLoader = getClass().getClassLoader();
+        Properties properties = new Properties();
+        properties.setProperty("severity", "error");
+        CheckerPool pool = CheckerPool.get(config.getPath(), classLoader, properties, "UTF-8");
+        assertSame(pool, CheckerPool.get(config.getPath(), classLoader, properties, "UTF-8"));
+
+        properties.setProperty("severity", "warning");
+        assertNotSame(pool, CheckerPool.get(config.getPath(), classLoader, properties, "UTF-8"));
+    }
+
+    @Test
+    public void testModifiedConfiguration() throws Exception {
+        File config = folder.newFile("checkstyle.xml");
+        write(config, "error");
+        ClassLoader classLoader = getClass().getClassLoader();
+        CheckerPool pool = CheckerPool.get(config.getPath(), classLoader, new Properties(), "UTF-8");
+
+        write(config, "warning");
+        assertEquals(true, config.setLastModified(config.lastModified() + 2000));
+        assertNotSame(pool, CheckerPool.get(config.getPath(), classLoader, new Properties(), "UTF-8"));
+    }
+
+    @Test
+    public void testModifiedSuppressions() throws Exception {
+        File suppressions = folder.newFile("suppressions.xml");
+        writeSuppressions(suppressions, "FileTabCharacter");
+        File config = folder.newFile("checkstyle.xml");
+        write(config, "error", "  <module name=\"SuppressionFilter\">\n" +
+                "    <property name=\"file\" value=\"" + suppressions.getPath() + "\"/>\n" +
+                "  </module>\n");
+        ClassLoader classLoader = getClass().getClassLoader();
+        CheckerPool pool = CheckerPool.get(config.getPath(), classLoader, new Properties(), "UTF-8");
+        assertSame(pool, CheckerPool.get(config.getPath(), classLoader, new Properties(), "UTF-8"));
+
+        writeSuppressions(suppressions, "JavadocPackage");
+        assertEquals(true, suppressions.setLastModified(suppressions.lastModified() + 2000));
+        assertNotSame(pool, CheckerPool.get(config.getPath(), classLoader, new Properties(), "UTF-8"));
+    }
+
+    @Test
+    public void testBounded() throws Exception {
+        ClassLoader classLoader = getClass().getClassLoader();
+        List<File> configs = new ArrayList<File>();
+        List<CheckerPool> pools = new ArrayList<CheckerPool>();
+        for (int i = 0; i <= CheckerPool.MAX_POOLS; i++) {
+            File config = folder.newFile("checkstyle" + i + ".xml");
+            write(config, "error");
+            configs.add(config);
+            pools.add(CheckerPool.get(config.getPath(), classLoader, new Properties(), "UTF-8"));
+        }
+        // The least recently used pool was dropped, the others are kept.
+        for (int i = CheckerPool.MAX_POOLS; i > 0; i--) {
+            assertSame(pools.get(i), CheckerPool.get(configs.get(i).getPath(), classLoader, new Properties(),
+                    "UTF-8"));
+        }
+        assertNotSame(pools.get(0), CheckerPool.get(configs.get(0).getPath(), classLoader, new Properties(),
+                "UTF-8"));
+    }
+
+    private static void write(File file, String severity) throws Exception {
+        write(file, severity, "");
+    }
+
+    private static void write(File file, String severity, String modules) throws Exception {
+        String content = "<?xml version=\"1.0\"?>\n" +
+                "<!DOCTYPE module PUBLIC \"-//Checkstyle//DTD Checkstyle Configuration 1.3//EN\" " +
+                "\"https://checkstyle.org/dtds/configuration_1_3.dtd\">\n" +
+                "<module name=\"Checker\">\n" +
+                "  <property name=\"severity\" value=\"" + severity + "\"/>\n" +
+                "  <module name=\"FileTabCharacter\"/>\n" +
+                modules +
+                "</module>\n";
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeSuppressions(File file, String checks) throws Exception {
+        String content = "<?xml version=\"1.0\"?>\n" +
+                "<!DOCTYPE suppressions PUBLIC \"-//Checkstyle//DTD SuppressionFilter Configuration 1.2//EN\" " +
+                "\"https://checkstyle.org/dtds/suppressions_1_2.dtd\">\n" +
+                "<suppressions>\n" +
+                "  <suppress checks=\"" + checks + "\" files=\".*\"/>\n" +
+                "</suppressions>\n";
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
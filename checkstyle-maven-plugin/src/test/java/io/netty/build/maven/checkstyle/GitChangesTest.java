@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven.checkstyle;
+
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class GitChangesTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testFilter() throws Exception {
+        File a = folder.newFolder("a");
+        File b = folder.newFolder("b");
+        File c = folder.newFolder("c");
+        List<File> files = Arrays.asList(new File(a, "A1.java"), new File(a, "A2.java"),
+                new File(b, "B1.java"), new File(b, "B2.java"), new File(c, "C1.java"));
+
+        // A2 changed, a package-info.java of b was deleted and c is untouched.
+        GitChanges changes = new GitChanges(Arrays.asList(new File(a, "A2.java"), new File(b, "package-info.java")));
+        assertEquals(Arrays.asList(files.get(1), files.get(2)), changes.filter(files));
+    }
+
+    @Test
+    public void testNothingChanged() {
+        GitChanges changes = new GitChanges(Collections.<File>emptyList());
+        assertEquals(0, changes.filter(Arrays.asList(new File(folder.getRoot(), "A.java"))).size());
+    }
+
+    @Test
+    public void testRepository() throws Exception {
+        File root = folder.getRoot();
+        Assume.assumeTrue(git(root, "init", "-q"));
+        File dir = new File(root, "src");
+        assertEquals(true, dir.mkdir());
+        write(new File(dir, "A.java"));
+        write(new File(dir, "B.java"));
+        git(root, "add", ".");
+        git(root, "-c", "user.name=test", "-c", "user.email=test@example.com", "commit", "-q", "-m", "init");
+        git(root, "tag", "base");
+
+        write(new File(dir, "B.java"));
+        write(new File(dir, "C.java"));
+        GitChanges changes = GitChanges.of("git", dir, "base");
+        assertEquals(2, changes.size());
+        assertEquals(Arrays.asList(new File(dir, "B.java"), new File(dir, "C.java")), changes.filter(
+                Arrays.asList(new File(dir, "A.java"), new File(dir, "B.java"), new File(dir, "C.java"))));
+    }
+
+    @Test(expected = IOException.class)
+    public void testUnknownRef() throws Exception {
+        File root = folder.getRoot();
+        Assume.assumeTrue(git(root, "init", "-q"));
+        GitChanges.of("git", root, "does-not-exist");
+    }
+
+    private static void write(File file) throws IOException {
+        Files.write(file.toPath(), ("// " + System.nanoTime() + '\n').getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static boolean git(File directory, String... args) throws InterruptedException {
+        String[] command = new String[args.length + 1];
+        command[0] = "git";
+        System.arraycopy(args, 0, command, 1, args.length);
+        try {
+            Process process = new ProcessBuilder(command).directory(directory).inheritIO().start();
+            return process.waitFor() == 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
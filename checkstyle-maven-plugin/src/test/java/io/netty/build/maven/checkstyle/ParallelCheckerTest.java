@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.ConfigurationLoader;
+import com.puppycrawl.tools.checkstyle.PropertiesExpander;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelCheckerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testSameViolationsAsSingleChecker() throws Exception {
+        List<File> files = new ArrayList<File>();
+        for (int i = 0; i < 6; i++) {
+            File dir = folder.newFolder("p" + i);
+            for (int j = 0; j < 4; j++) {
+                files.add(write(new File(dir, "C" + j + ".java"), "package p" + i + ";\n\n" +
+                        "public class C" + j + " {\n" +
+                        "\tint a;   \n" +
+                        (j % 2 == 0 ? "    public String toString() { return null; }\n" : "") +
+                        "\n\n\n    int b;\n" +
+                        "}"));
+            }
+        }
+        Configuration configuration = configuration();
+
+        List<String> expected = new ArrayList<String>();
+        Checker checker = new Checker();
+        checker.setModuleClassLoader(getClass().getClassLoader());
+        checker.configure(configuration);
+        checker.setCharset("UTF-8");
+        AuditEventCollector collector = new AuditEventCollector();
+        checker.addListener(collector);
+        try {
+            checker.process(files);
+        } finally {
+            checker.destroy();
+        }
+        for (File file : files) {
+            for (AuditEvent event : collector.errors(file.getAbsolutePath())) {
+                expected.add(toString(event));
+            }
+        }
+        assertTrue(expected.size() > files.size());
+
+        CheckstyleResult result = new ParallelChecker(pool(), 4).check(files);
+        assertEquals(files.size(), result.files());
+        List<String> actual = new ArrayList<String>();
+        for (AuditEvent event : result.errors()) {
+            actual.add(toString(event));
+        }
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testJavadocPackageReportedOncePerDirectory() throws Exception {
+        List<File> files = new ArrayList<File>();
+        for (int i = 0; i < 3; i++) {
+            File dir = folder.newFolder("q" + i);
+            for (int j = 0; j < 3; j++) {
+                files.add(write(new File(dir, "C" + j + ".java"), "package q" + i + ";\n"));
+            }
+        }
+        CheckstyleResult result = new ParallelChecker(pool(), 3).check(files);
+        int javadocPackage = 0;
+        for (AuditEvent event : result.errors()) {
+            if (event.getSourceName().endsWith("JavadocPackageCheck")) {
+                javadocPackage++;
+            }
+        }
+        assertEquals(3, javadocPackage);
+    }
+
+    private Configuration configuration() throws Exception {
+        return ConfigurationLoader.loadConfiguration(getClass().getClassLoader().getResource("io/netty/checkstyle.xml")
+                .toString(), new PropertiesExpander(new Properties()));
+    }
+
+    private CheckerPool pool() throws Exception {
+        return CheckerPool.get("io/netty/checkstyle.xml", getClass().getClassLoader(), new Properties(), "UTF-8");
+    }
+
+    private static File write(File file, String content) throws Exception {
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static String toString(AuditEvent event) {
+        return event.getFileName() + ':' + event.getLine() + ':' + event.getColumn() + ':' +
+                event.getSourceName() + ':' + event.getMessage();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2021 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.netty.build.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * This check reports {@code AtomicInteger}, {@code AtomicLong}, {@code AtomicBoolean} and {@code AtomicReference}
+ * instance fields in classes whose simple name matches {@code classPattern}. Every instance of such a class pays
+ * for an extra object and pointer hop per field, where a {@code volatile} field and a static
+ * {@code Atomic*FieldUpdater} cost nothing.
+ *
+ * {@code AtomicIntegerFieldUpdater}, {@code AtomicLongFieldUpdater} and {@code AtomicReferenceFieldUpdater} fields
+ * which are not {@code static final} are reported in all classes.
+ *
+ * The check is not part of {@code io/netty/checkstyle.xml}, as the class names only hint at classes with many
+ * instances. Projects add it to their own configuration with a {@code classPattern} that fits them.
+ */
+public class AtomicFieldUpdaterCheck extends AbstractCheck {
+
+    private static final String INSTANCE_FIELD = "{0} instance field {1}, use a volatile field and a static final {2}";
+    private static final String UPDATER_FIELD = "{0} field {1} must be static final";
+
+    private static final Map<String, String> UPDATERS = new HashMap<String, String>();
+
+    static {
+        UPDATERS.put("AtomicInteger", "AtomicIntegerFieldUpdater");
+        UPDATERS.put("AtomicBoolean", "AtomicIntegerFieldUpdater");
+        UPDATERS.put("AtomicLong", "AtomicLongFieldUpdater");
+        UPDATERS.put("AtomicReference", "AtomicReferenceFieldUpdater");
+    }
+
+    private Pattern classPattern = Pattern.compile(".*(Handler|Channel|Buf|Buffer)");
+
+    /**
+     * Sets the pattern the simple name of a class must match for its {@code Atomic*} fields to be reported.
+     */
+    public void setClassPattern(Pattern classPattern) {
+        this.classPattern = classPattern;
+    }
+
+    @Override
+    public int[] getRequiredTokens() {
+        return new int[] { TokenTypes.VARIABLE_DEF };
+    }
+
+    @Override
+    public int[] getDefaultTokens() {
+        return getRequiredTokens();
+    }
+
+    @Override
+    public int[] getAcceptableTokens() {
+        return getRequiredTokens();
+    }
+
+    @Override
+    public void visitToken(DetailAST ast) {
+        DetailAST classAST = ast.getParent().getParent();
+        if (ast.getParent().getType() != TokenTypes.OBJBLOCK || classAST.getType() == TokenTypes.INTERFACE_DEF ||
+                classAST.getType() == TokenTypes.ANNOTATION_DEF) {
+            // Local variables and the implicitly static final fields of interfaces.
+            return;
+        }
+        DetailAST type = ast.findFirstToken(TokenTypes.TYPE);
+        if (type.findFirstToken(TokenTypes.ARRAY_DECLARATOR) != null) {
+            return;
+        }
+        String typeName = simpleName(type.getFirstChild());
+        if (typeName == null) {
+            return;
+        }
+        DetailAST modifiers = ast.findFirstToken(TokenTypes.MODIFIERS);
+        boolean isStatic = modifiers.findFirstToken(TokenTypes.LITERAL_STATIC) != null;
+        String name = ast.findFirstToken(TokenTypes.IDENT).getText();
+        if (UPDATERS.containsValue(typeName)) {
+            if (!isStatic || modifiers.findFirstToken(TokenTypes.FINAL) == null) {
+                log(ast, UPDATER_FIELD, typeName, name);
+            }
+        } else if (UPDATERS.containsKey(typeName) && !isStatic) {
+            DetailAST className = classAST.findFirstToken(TokenTypes.IDENT);
+            if (className != null && classPattern.matcher(className.getText()).matches()) {
+                log(ast, INSTANCE_FIELD, typeName, name, UPDATERS.get(typeName));
+            }
+        }
+    }
+
+    private static String simpleName(DetailAST type) {
+        if (type.getType() == TokenTypes.DOT) {
+            // The last identifier, which may be followed by type arguments.
+            DetailAST name = null;
+            for (DetailAST child = type.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (child.getType() == TokenTypes.IDENT) {
+                    name = child;
+                }
+            }
+            return name == null ? null : name.getText();
+        }
+        return type.getType() == TokenTypes.IDENT ? type.getText() : null;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2021 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.netty.build.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * This check reports declarations and instantiations of collections with boxed primitive type arguments, like
+ * {@code Map<Integer, V>} or {@code Set<Long>}, which box on every access. Maps keyed by {@code Byte},
+ * {@code Character}, {@code Short}, {@code Integer} or {@code Long} should be one of the primitive maps of
+ * {@code io.netty.util.collection} instead.
+ *
+ * Only collection types whose simple name matches {@code includes} and does not match {@code excludes} are
+ * checked. Types whose name ends with {@code Map} are maps and only their key is checked, all others are checked
+ * for their first type argument. An instantiation in the initializer of a reported declaration is not reported
+ * again.
+ */
+public class BoxedCollectionCheck extends AbstractCheck {
+
+    private static final String MAP = "{0} with boxed {1} keys, use io.netty.util.collection.{2} instead";
+    private static final String BOXED_MAP = "{0} with boxed {1} keys, use a map with primitive keys instead";
+    private static final String COLLECTION =
+            "{0} with boxed {1} elements, use a primitive array or collection instead";
+
+    private static final Map<String, String> PRIMITIVE_MAPS = new HashMap<String, String>();
+    private static final Set<String> BOXED_TYPES = new HashSet<String>(Arrays.asList(
+            "Byte", "Character", "Short", "Integer", "Long", "Float", "Double"));
+
+    static {
+        PRIMITIVE_MAPS.put("Byte", "ByteObjectHashMap");
+        PRIMITIVE_MAPS.put("Character", "CharObjectHashMap");
+        PRIMITIVE_MAPS.put("Short", "ShortObjectHashMap");
+        PRIMITIVE_MAPS.put("Integer", "IntObjectHashMap");
+        PRIMITIVE_MAPS.put("Long", "LongObjectHashMap");
+    }
+
+    private Pattern includes = Pattern.compile(".*(Map|Set|List|Queue|Deque|Collection)");
+    // Sorted collections have no primitive counterpart.
+    private Pattern excludes = Pattern.compile("(Sorted|Navigable|Tree|ConcurrentSkipList|Enum).*");
+
+    /**
+     * Sets the pattern the simple name of a collection type must match to be checked.
+     */
+    public void setIncludes(Pattern includes) {
+        this.includes = includes;
+    }
+
+    /**
+     * Sets the pattern of the simple names of collection types which are not checked.
+     */
+    public void setExcludes(Pattern excludes) {
+        this.excludes = excludes;
+    }
+
+    @Override
+    public int[] getRequiredTokens() {
+        return new int[] { TokenTypes.VARIABLE_DEF, TokenTypes.LITERAL_NEW };
+    }
+
+    @Override
+    public int[] getDefaultTokens() {
+        return getRequiredTokens();
+    }
+
+    @Override
+    public int[] getAcceptableTokens() {
+        return getRequiredTokens();
+    }
+
+    @Override
+    public void visitToken(DetailAST ast) {
+        if (ast.getType() == TokenTypes.VARIABLE_DEF) {
+            report(ast.findFirstToken(TokenTypes.TYPE));
+        } else if (!isReportedInitializer(ast)) {
+            report(ast);
+        }
+    }
+
+    private void report(DetailAST ast) {
+        String[] boxed = boxedTypeArgument(ast);
+        if (boxed == null) {
+            return;
+        }
+        String type = boxed[0];
+        String argument = boxed[1];
+        if (!type.endsWith("Map")) {
+            log(ast, COLLECTION, type, argument);
+        } else if (PRIMITIVE_MAPS.containsKey(argument)) {
+            log(ast, MAP, type, argument, PRIMITIVE_MAPS.get(argument));
+        } else {
+            log(ast, BOXED_MAP, type, argument);
+        }
+    }
+
+    /**
+     * Returns the simple names of the checked collection type and its boxed type argument of a {@code TYPE} or
+     * {@code LITERAL_NEW}, or {@code null}.
+     */
+    private String[] boxedTypeArgument(DetailAST ast) {
+        DetailAST name = ast.getFirstChild();
+        DetailAST typeArguments = ast.findFirstToken(TokenTypes.TYPE_ARGUMENTS);
+        if (name.getType() == TokenTypes.DOT) {
+            typeArguments = name.findFirstToken(TokenTypes.TYPE_ARGUMENTS);
+            name = lastIdent(name);
+        }
+        if (name == null || name.getType() != TokenTypes.IDENT || typeArguments == null ||
+                ast.findFirstToken(TokenTypes.ARRAY_DECLARATOR) != null) {
+            return null;
+        }
+        String type = name.getText();
+        if (!includes.matcher(type).matches() || excludes.matcher(type).matches()) {
+            return null;
+        }
+        DetailAST argument = typeArguments.findFirstToken(TokenTypes.TYPE_ARGUMENT);
+        DetailAST argumentName = argument == null ? null : argument.getFirstChild();
+        if (argumentName != null && argumentName.getType() == TokenTypes.DOT) {
+            argumentName = lastIdent(argumentName);
+        }
+        // An array of boxed values like Integer[] is not boxed by the collection.
+        if (argumentName == null || argumentName.getType() != TokenTypes.IDENT ||
+                !BOXED_TYPES.contains(argumentName.getText()) ||
+                argument.findFirstToken(TokenTypes.ARRAY_DECLARATOR) != null) {
+            return null;
+        }
+        return new String[] { type, argumentName.getText() };
+    }
+
+    private static DetailAST lastIdent(DetailAST dot) {
+        DetailAST ident = null;
+        for (DetailAST child = dot.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getType() == TokenTypes.IDENT) {
+                ident = child;
+            }
+        }
+        return ident;
+    }
+
+    private boolean isReportedInitializer(DetailAST ast) {
+        DetailAST parent = ast.getParent();
+        if (parent.getType() != TokenTypes.EXPR || parent.getParent().getType() != TokenTypes.ASSIGN) {
+            return false;
+        }
+        DetailAST variable = parent.getParent().getParent();
+        return variable.getType() == TokenTypes.VARIABLE_DEF &&
+                boxedTypeArgument(variable.findFirstToken(TokenTypes.TYPE)) != null;
+    }
+}
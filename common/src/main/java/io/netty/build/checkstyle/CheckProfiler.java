@@ -0,0 +1,597 @@
+/*
+ * Copyright 2012 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.DefaultContext;
+import com.puppycrawl.tools.checkstyle.ModuleFactory;
+import com.puppycrawl.tools.checkstyle.PackageNamesLoader;
+import com.puppycrawl.tools.checkstyle.PackageObjectFactory;
+import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+import com.puppycrawl.tools.checkstyle.api.AutomaticBean;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileSetCheck;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.MessageDispatcher;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+
+/**
+ * Measures the wall time, the number of calls and the allocated bytes of every module of a checkstyle
+ * configuration and of every checked file.
+ *
+ * Use it as the {@link ModuleFactory} of a {@link com.puppycrawl.tools.checkstyle.Checker} configured with
+ * {@link #instrument(Configuration)}, and add a {@link #newListener()} to the checker. Every file set check and
+ * every check of a {@code TreeWalker} is then created wrapped in a module which measures each call to it, so
+ * filters and violations are the same as without profiling. The time of {@code TreeWalker} includes parsing and
+ * the time of its checks. Allocations are read from the thread allocation counters of the JVM, if available.
+ *
+ * Several checkers may share one profiler and run on different threads.
+ */
+public final class CheckProfiler implements ModuleFactory {
+
+    private static final String MODULE_PREFIX = CheckProfiler.class.getName() + '$';
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+    private final ModuleFactory moduleFactory;
+    private final List<Configuration> modules = new ArrayList<Configuration>();
+    private final List<String> moduleNames = new ArrayList<String>();
+    private final List<Stats> moduleStats = new ArrayList<Stats>();
+    private final List<Stats> fileStats = new ArrayList<Stats>();
+
+    public CheckProfiler(ClassLoader classLoader) throws CheckstyleException {
+        this(new PackageObjectFactory(PackageNamesLoader.getPackageNames(classLoader), classLoader));
+    }
+
+    public CheckProfiler(ModuleFactory moduleFactory) {
+        this.moduleFactory = moduleFactory;
+    }
+
+    /**
+     * Returns a copy of the given configuration in which all file set checks and the checks of a
+     * {@code TreeWalker} are replaced by measuring modules created by this factory.
+     */
+    public synchronized Configuration instrument(Configuration configuration) throws CheckstyleException {
+        DefaultConfiguration copy = copy(configuration);
+        for (Configuration child : configuration.getChildren()) {
+            Object module = moduleFactory.createModule(child.getName());
+            if (module instanceof FileSetCheck) {
+                DefaultConfiguration fileSetCheck = copy(child);
+                for (Configuration check : child.getChildren()) {
+                    fileSetCheck.addChild(moduleFactory.createModule(check.getName()) instanceof AbstractCheck ?
+                            register(check) : check);
+                }
+                copy.addChild(register(fileSetCheck));
+            } else {
+                copy.addChild(child);
+            }
+        }
+        return copy;
+    }
+
+    @Override
+    public Object createModule(String name) throws CheckstyleException {
+        if (!name.startsWith(MODULE_PREFIX)) {
+            return moduleFactory.createModule(name);
+        }
+        Configuration configuration;
+        String moduleName;
+        synchronized (this) {
+            int index = Integer.parseInt(name.substring(MODULE_PREFIX.length()));
+            configuration = modules.get(index);
+            moduleName = moduleNames.get(index);
+        }
+        Object module = moduleFactory.createModule(configuration.getName());
+        Stats stats = new Stats(moduleName);
+        synchronized (this) {
+            moduleStats.add(stats);
+        }
+        if (module instanceof AbstractCheck) {
+            return new ProfiledCheck((AbstractCheck) module, configuration, stats);
+        }
+        return new ProfiledFileSetCheck((FileSetCheck) module, configuration, stats);
+    }
+
+    /**
+     * Returns a new listener which measures the files. Every {@link com.puppycrawl.tools.checkstyle.Checker} needs
+     * its own listener.
+     */
+    public AuditListener newListener() {
+        return new FileListener();
+    }
+
+    /**
+     * Returns the measurements of all modules, merged by module name and ordered by time.
+     */
+    public List<Stats> modules() {
+        Map<String, Stats> merged = new LinkedHashMap<String, Stats>();
+        synchronized (this) {
+            for (Stats stats : moduleStats) {
+                Stats sum = merged.get(stats.name);
+                if (sum == null) {
+                    sum = new Stats(stats.name);
+                    merged.put(stats.name, sum);
+                }
+                sum.add(stats);
+            }
+        }
+        return sort(new ArrayList<Stats>(merged.values()));
+    }
+
+    /**
+     * Returns the measurements of all files, ordered by time.
+     */
+    public List<Stats> files() {
+        synchronized (this) {
+            return sort(new ArrayList<Stats>(fileStats));
+        }
+    }
+
+    /**
+     * Writes all measurements as JSON.
+     */
+    public void writeJson(Appendable out) throws IOException {
+        List<Stats> files = files();
+        long nanos = 0;
+        long bytes = 0;
+        for (Stats stats : files) {
+            nanos += stats.nanos;
+            bytes += stats.bytes;
+        }
+        out.append("{\n  \"files\": ").append(String.valueOf(files.size()))
+                .append(",\n  \"nanos\": ").append(String.valueOf(nanos))
+                .append(",\n  \"allocatedBytes\": ").append(String.valueOf(THREADS == null ? -1 : bytes))
+                .append(",\n  \"modules\": [");
+        writeJson(out, modules(), "module");
+        out.append("],\n  \"fileStats\": [");
+        writeJson(out, files, "file");
+        out.append("]\n}\n");
+    }
+
+    /**
+     * Returns a human readable summary of the {@code top} slowest modules and files.
+     */
+    public List<String> summary(int top) {
+        List<Stats> files = files();
+        long nanos = 0;
+        for (Stats stats : files) {
+            nanos += stats.nanos;
+        }
+        List<String> lines = new ArrayList<String>();
+        lines.add(String.format(Locale.ROOT, "Checked %d files in %.1f ms, slowest modules:", files.size(),
+                nanos / 1e6));
+        summary(lines, modules(), top, nanos);
+        lines.add("Slowest files:");
+        summary(lines, files, top, nanos);
+        return lines;
+    }
+
+    private static void summary(List<String> lines, List<Stats> stats, int top, long total) {
+        for (int i = 0; i < Math.min(top, stats.size()); i++) {
+            Stats s = stats.get(i);
+            lines.add(String.format(Locale.ROOT, "%10.1f ms %5.1f%% %10d calls %10s %5d violation(s)  %s",
+                    s.nanos / 1e6, total == 0 ? 0 : 100.0 * s.nanos / total, s.calls, bytes(s.bytes),
+                    s.violations, s.name));
+        }
+    }
+
+    private static String bytes(long bytes) {
+        if (THREADS == null) {
+            return "n/a";
+        }
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format(Locale.ROOT, "%.1f KiB", bytes / 1024.0);
+        }
+        return String.format(Locale.ROOT, "%.1f MiB", bytes / (1024.0 * 1024.0));
+    }
+
+    private static void writeJson(Appendable out, List<Stats> stats, String nameKey) throws IOException {
+        for (int i = 0; i < stats.size(); i++) {
+            Stats s = stats.get(i);
+            out.append(i == 0 ? "\n" : ",\n").append("    {\"").append(nameKey).append("\": ");
+            appendJsonString(out, s.name);
+            out.append(", \"calls\": ").append(String.valueOf(s.calls))
+                    .append(", \"nanos\": ").append(String.valueOf(s.nanos))
+                    .append(", \"allocatedBytes\": ").append(String.valueOf(THREADS == null ? -1 : s.bytes))
+                    .append(", \"violations\": ").append(String.valueOf(s.violations)).append('}');
+        }
+        if (!stats.isEmpty()) {
+            out.append("\n  ");
+        }
+    }
+
+    private static void appendJsonString(Appendable out, String value) throws IOException {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.append('\\').append(c);
+            } else if (c < 0x20) {
+                out.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+            } else {
+                out.append(c);
+            }
+        }
+        out.append('"');
+    }
+
+    private static List<Stats> sort(List<Stats> stats) {
+        Collections.sort(stats, new Comparator<Stats>() {
+            @Override
+            public int compare(Stats o1, Stats o2) {
+                return o1.nanos < o2.nanos ? 1 : o1.nanos == o2.nanos ? o1.name.compareTo(o2.name) : -1;
+            }
+        });
+        return stats;
+    }
+
+    private Configuration register(Configuration configuration) throws CheckstyleException {
+        String name = configuration.getName();
+        for (String property : configuration.getPropertyNames()) {
+            if ("id".equals(property)) {
+                name = configuration.getProperty(property);
+            }
+        }
+        if (moduleNames.contains(name)) {
+            int i = 2;
+            while (moduleNames.contains(name + " #" + i)) {
+                i++;
+            }
+            name += " #" + i;
+        }
+        DefaultConfiguration module = new DefaultConfiguration(MODULE_PREFIX + modules.size());
+        modules.add(configuration);
+        moduleNames.add(name);
+        return module;
+    }
+
+    private static DefaultConfiguration copy(Configuration configuration) throws CheckstyleException {
+        DefaultConfiguration copy = new DefaultConfiguration(configuration.getName());
+        for (String property : configuration.getPropertyNames()) {
+            copy.addProperty(property, configuration.getProperty(property));
+        }
+        for (Map.Entry<String, String> message : configuration.getMessages().entrySet()) {
+            copy.addMessage(message.getKey(), message.getValue());
+        }
+        return copy;
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        try {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+                if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                    return threads;
+                }
+            }
+        } catch (Throwable ignore) {
+            // No allocation counters on this JVM.
+        }
+        return null;
+    }
+
+    private static long threadAllocatedBytes() {
+        return THREADS == null ? 0 : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * The measurements of a module or a file.
+     */
+    public static final class Stats {
+        private final String name;
+        // Only updated by the thread which currently uses the module or processes the file.
+        private long calls;
+        private long nanos;
+        private long bytes;
+        private long violations;
+
+        Stats(String name) {
+            this.name = name;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        /**
+         * The number of calls to the module, {@code process} for file set checks and {@code beginTree},
+         * {@code visitToken}, {@code leaveToken} and {@code finishTree} for checks.
+         */
+        public long calls() {
+            return calls;
+        }
+
+        public long nanos() {
+            return nanos;
+        }
+
+        /**
+         * The allocated bytes or {@code -1} if the JVM does not count allocations.
+         */
+        public long allocatedBytes() {
+            return THREADS == null ? -1 : bytes;
+        }
+
+        public long violations() {
+            return violations;
+        }
+
+        void add(Stats stats) {
+            calls += stats.calls;
+            nanos += stats.nanos;
+            bytes += stats.bytes;
+            violations += stats.violations;
+        }
+
+        void add(long startNanos, long startBytes) {
+            calls++;
+            bytes += threadAllocatedBytes() - startBytes;
+            nanos += System.nanoTime() - startNanos;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * Measures a file set check. Only created by {@link CheckProfiler}, the setters receive the context of the
+     * {@link com.puppycrawl.tools.checkstyle.Checker} which is passed on to the wrapped check.
+     */
+    public static final class ProfiledFileSetCheck extends AutomaticBean implements FileSetCheck {
+        private final FileSetCheck check;
+        private final Configuration configuration;
+        private final Stats stats;
+        private final DefaultContext context = new DefaultContext();
+
+        ProfiledFileSetCheck(FileSetCheck check, Configuration configuration, Stats stats) {
+            this.check = check;
+            this.configuration = configuration;
+            this.stats = stats;
+        }
+
+        public void setCharset(String charset) {
+            context.add("charset", charset);
+        }
+
+        public void setModuleFactory(ModuleFactory moduleFactory) {
+            context.add("moduleFactory", moduleFactory);
+        }
+
+        public void setSeverity(String severity) {
+            context.add("severity", severity);
+        }
+
+        public void setBasedir(String basedir) {
+            context.add("basedir", basedir);
+        }
+
+        public void setTabWidth(int tabWidth) {
+            context.add("tabWidth", String.valueOf(tabWidth));
+        }
+
+        @Override
+        protected void finishLocalSetup() throws CheckstyleException {
+            check.contextualize(context);
+            check.configure(configuration);
+        }
+
+        @Override
+        public void setMessageDispatcher(MessageDispatcher dispatcher) {
+            check.setMessageDispatcher(dispatcher);
+        }
+
+        @Override
+        public void init() {
+            check.init();
+        }
+
+        @Override
+        public void destroy() {
+            check.destroy();
+        }
+
+        @Override
+        public void beginProcessing(String charset) {
+            check.beginProcessing(charset);
+        }
+
+        @Override
+        public SortedSet<Violation> process(File file, FileText fileText) throws CheckstyleException {
+            long startBytes = threadAllocatedBytes();
+            long startNanos = System.nanoTime();
+            SortedSet<Violation> violations = check.process(file, fileText);
+            stats.add(startNanos, startBytes);
+            stats.violations += violations.size();
+            return violations;
+        }
+
+        @Override
+        public void finishProcessing() {
+            check.finishProcessing();
+        }
+    }
+
+    /**
+     * Measures a check of a {@code TreeWalker}. Only created by {@link CheckProfiler}.
+     */
+    public static final class ProfiledCheck extends AbstractCheck {
+        private final AbstractCheck check;
+        private final Configuration configuration;
+        private final Stats stats;
+
+        ProfiledCheck(AbstractCheck check, Configuration configuration, Stats stats) {
+            this.check = check;
+            this.configuration = configuration;
+            this.stats = stats;
+        }
+
+        @Override
+        protected void finishLocalSetup() throws CheckstyleException {
+            DefaultContext context = new DefaultContext();
+            context.add("severity", getSeverity());
+            context.add("tabWidth", String.valueOf(getTabWidth()));
+            check.contextualize(context);
+            check.configure(configuration);
+            // The TreeWalker registers the tokens of this module, so mirror the configured ones.
+            Set<String> tokens = check.getTokenNames();
+            if (!tokens.isEmpty()) {
+                setTokens(tokens.toArray(new String[0]));
+            }
+        }
+
+        @Override
+        public int[] getDefaultTokens() {
+            return check.getDefaultTokens();
+        }
+
+        @Override
+        public int[] getAcceptableTokens() {
+            return check.getAcceptableTokens();
+        }
+
+        @Override
+        public int[] getRequiredTokens() {
+            return check.getRequiredTokens();
+        }
+
+        @Override
+        public boolean isCommentNodesRequired() {
+            return check.isCommentNodesRequired();
+        }
+
+        @Override
+        public SortedSet<Violation> getViolations() {
+            return check.getViolations();
+        }
+
+        @Override
+        public void init() {
+            check.init();
+        }
+
+        @Override
+        public void destroy() {
+            check.destroy();
+        }
+
+        // TreeWalker only gives the contents to this wrapper. getFileContents() is the only way to read them back,
+        // and the wrapped check needs them for getLines(), getFilePath() and log(...).
+        @SuppressWarnings("deprecation")
+        @Override
+        public void beginTree(DetailAST rootAST) {
+            check.setFileContents(getFileContents());
+            check.clearViolations();
+            long startBytes = threadAllocatedBytes();
+            long startNanos = System.nanoTime();
+            check.beginTree(rootAST);
+            stats.add(startNanos, startBytes);
+        }
+
+        @Override
+        public void visitToken(DetailAST ast) {
+            long startBytes = threadAllocatedBytes();
+            long startNanos = System.nanoTime();
+            check.visitToken(ast);
+            stats.add(startNanos, startBytes);
+        }
+
+        @Override
+        public void leaveToken(DetailAST ast) {
+            long startBytes = threadAllocatedBytes();
+            long startNanos = System.nanoTime();
+            check.leaveToken(ast);
+            stats.add(startNanos, startBytes);
+        }
+
+        @Override
+        public void finishTree(DetailAST rootAST) {
+            long startBytes = threadAllocatedBytes();
+            long startNanos = System.nanoTime();
+            check.finishTree(rootAST);
+            stats.add(startNanos, startBytes);
+            stats.violations += check.getViolations().size();
+        }
+    }
+
+    private final class FileListener implements AuditListener {
+        private Stats file;
+        private long startNanos;
+        private long startBytes;
+
+        @Override
+        public void auditStarted(AuditEvent event) {
+            // NOOP
+        }
+
+        @Override
+        public void auditFinished(AuditEvent event) {
+            // NOOP
+        }
+
+        @Override
+        public void fileStarted(AuditEvent event) {
+            file = new Stats(event.getFileName());
+            startBytes = threadAllocatedBytes();
+            startNanos = System.nanoTime();
+        }
+
+        @Override
+        public void fileFinished(AuditEvent event) {
+            if (file == null) {
+                return;
+            }
+            file.add(startNanos, startBytes);
+            synchronized (CheckProfiler.this) {
+                fileStats.add(file);
+            }
+            file = null;
+        }
+
+        @Override
+        public void addError(AuditEvent event) {
+            if (file != null) {
+                file.violations++;
+            }
+        }
+
+        @Override
+        public void addException(AuditEvent event, Throwable throwable) {
+            // NOOP
+        }
+    }
+}
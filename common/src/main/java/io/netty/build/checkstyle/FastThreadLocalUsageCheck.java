@@ -0,0 +1,153 @@
+/*
+ * Copyright 2021 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.netty.build.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FullIdent;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+/**
+ * This check reports uses of {@link ThreadLocal} which should be an {@code io.netty.util.concurrent.FastThreadLocal}
+ * instead, as the latter avoids the hash table lookup of {@link ThreadLocal} on Netty threads.
+ *
+ * Declarations of variables, instantiations including {@code ThreadLocal.withInitial(...)} and subclasses are
+ * reported. An instantiation in the initializer of a reported declaration is not reported again. Files in one of
+ * the {@code allowedPackages} or their sub packages are not checked.
+ */
+public class FastThreadLocalUsageCheck extends AbstractCheck {
+
+    private static final String THREAD_LOCAL = "ThreadLocal";
+    private static final String JAVA_LANG_THREAD_LOCAL = "java.lang.ThreadLocal";
+
+    private static final String DECLARATION = "java.lang.ThreadLocal variable, use FastThreadLocal instead";
+    private static final String INSTANTIATION = "java.lang.ThreadLocal instantiation, use FastThreadLocal instead";
+    private static final String SUBCLASS = "java.lang.ThreadLocal subclass, use FastThreadLocal instead";
+
+    private String[] allowedPackages = new String[0];
+    private boolean allowed;
+    // Set if the simple name ThreadLocal is imported from somewhere else than java.lang.
+    private boolean shadowed;
+
+    /**
+     * Sets the packages in which {@link ThreadLocal} may be used, sub packages included.
+     */
+    public void setAllowedPackages(String... allowedPackages) {
+        this.allowedPackages = allowedPackages.clone();
+    }
+
+    @Override
+    public int[] getRequiredTokens() {
+        return new int[] {
+                TokenTypes.PACKAGE_DEF, TokenTypes.IMPORT, TokenTypes.VARIABLE_DEF, TokenTypes.LITERAL_NEW,
+                TokenTypes.METHOD_CALL, TokenTypes.EXTENDS_CLAUSE
+        };
+    }
+
+    @Override
+    public int[] getDefaultTokens() {
+        return getRequiredTokens();
+    }
+
+    @Override
+    public int[] getAcceptableTokens() {
+        return getRequiredTokens();
+    }
+
+    @Override
+    public void beginTree(DetailAST rootAST) {
+        allowed = false;
+        shadowed = false;
+    }
+
+    @Override
+    public void visitToken(DetailAST ast) {
+        switch (ast.getType()) {
+            case TokenTypes.PACKAGE_DEF:
+                allowed = isAllowed(FullIdent.createFullIdent(ast.getLastChild().getPreviousSibling()).getText());
+                break;
+            case TokenTypes.IMPORT:
+                String imported = FullIdent.createFullIdentBelow(ast).getText();
+                if (imported.endsWith('.' + THREAD_LOCAL) && !JAVA_LANG_THREAD_LOCAL.equals(imported)) {
+                    shadowed = true;
+                }
+                break;
+            case TokenTypes.VARIABLE_DEF:
+                if (!allowed && isThreadLocal(ast.findFirstToken(TokenTypes.TYPE).getFirstChild())) {
+                    log(ast, DECLARATION);
+                }
+                break;
+            case TokenTypes.LITERAL_NEW:
+                if (!allowed && isThreadLocal(ast.getFirstChild()) && !isDeclarationInitializer(ast)) {
+                    log(ast, INSTANTIATION);
+                }
+                break;
+            case TokenTypes.METHOD_CALL:
+                if (!allowed && isWithInitial(ast.getFirstChild()) && !isDeclarationInitializer(ast)) {
+                    log(ast, INSTANTIATION);
+                }
+                break;
+            case TokenTypes.EXTENDS_CLAUSE:
+                if (!allowed && ast.getParent().getType() == TokenTypes.CLASS_DEF &&
+                        isThreadLocal(ast.getFirstChild())) {
+                    log(ast, SUBCLASS);
+                }
+                break;
+            default:
+                throw new IllegalStateException(ast.toString());
+        }
+    }
+
+    private boolean isAllowed(String packageName) {
+        for (String allowedPackage : allowedPackages) {
+            if (packageName.equals(allowedPackage) || packageName.startsWith(allowedPackage + '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Matches ThreadLocal and java.lang.ThreadLocal, with or without type arguments.
+    private boolean isThreadLocal(DetailAST ast) {
+        if (ast == null) {
+            return false;
+        }
+        if (ast.getType() == TokenTypes.IDENT) {
+            return !shadowed && THREAD_LOCAL.equals(ast.getText());
+        }
+        return ast.getType() == TokenTypes.DOT &&
+                JAVA_LANG_THREAD_LOCAL.equals(FullIdent.createFullIdent(ast).getText());
+    }
+
+    // Matches ThreadLocal.withInitial and java.lang.ThreadLocal.withInitial
+    private boolean isWithInitial(DetailAST ast) {
+        return ast.getType() == TokenTypes.DOT && "withInitial".equals(ast.getLastChild().getText()) &&
+                isThreadLocal(ast.getFirstChild());
+    }
+
+    // Instantiations which initialize a reported declaration are not reported again.
+    private boolean isDeclarationInitializer(DetailAST ast) {
+        DetailAST parent = ast.getParent();
+        if (parent.getType() == TokenTypes.EXPR) {
+            parent = parent.getParent();
+        }
+        if (parent.getType() != TokenTypes.ASSIGN || parent.getParent().getType() != TokenTypes.VARIABLE_DEF) {
+            return false;
+        }
+        return isThreadLocal(parent.getParent().findFirstToken(TokenTypes.TYPE).getFirstChild());
+    }
+}
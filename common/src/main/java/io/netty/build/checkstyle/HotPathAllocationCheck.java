@@ -0,0 +1,465 @@
+/*
+ * Copyright 2021 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.netty.build.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * This check reports allocations in methods which must not allocate, selected by their name and the name of their
+ * class, or by a marker annotation like {@code @HotPath}.
+ *
+ * Reported are {@code new} expressions, lambdas which capture a local variable or {@code this}, method references
+ * bound to an instance, calls of varargs methods, string concatenations, autoboxing of primitive locals and
+ * enhanced {@code for} loops over something else than an array. Checkstyle has no type information, so boxing,
+ * varargs calls and loops are only reported if the involved types are declared in the same file. Varargs methods
+ * of other classes can be added via {@code varargsMethods}. Code in {@code throw} and {@code assert} statements
+ * is not checked, as well as the bodies of lambdas and anonymous classes.
+ *
+ * Justified allocations can be suppressed with {@code @SuppressWarnings("checkstyle:HotPathAllocation")} on the
+ * method or a local variable.
+ */
+public class HotPathAllocationCheck extends AbstractCheck {
+
+    private static final String MESSAGE = "allocation in hot path method {0}(): {1}";
+    private static final String AMBIGUOUS = "";
+
+    private static final Set<String> BOXED_TYPES = new HashSet<String>(Arrays.asList(
+            "Boolean", "Byte", "Character", "Short", "Integer", "Long", "Float", "Double", "Number", "Object"));
+
+    private enum Kind {
+        PRIMITIVE, BOXED, STRING, ARRAY, OTHER
+    }
+
+    private static final class Variable {
+        final Kind kind;
+        // Locals and instance fields are captured by lambdas and bound by method references.
+        final boolean captured;
+
+        Variable(Kind kind, boolean captured) {
+            this.kind = kind;
+            this.captured = captured;
+        }
+    }
+
+    private Pattern methodPattern = Pattern.compile("channelRead|write|decode");
+    private Pattern classPattern = Pattern.compile(".*");
+    private Set<String> annotations = new HashSet<String>(Arrays.asList("HotPath"));
+    private Set<String> varargsMethods = new HashSet<String>(Arrays.asList("format", "asList"));
+
+    // Varargs methods declared in the current file, mapped to the number of their other parameters.
+    private final Map<String, Object> fileVarargsMethods = new HashMap<String, Object>();
+    private final Map<String, Variable> variables = new HashMap<String, Variable>();
+    private String methodName;
+    private Kind returnKind;
+
+    /**
+     * Sets the pattern the names of the checked methods must match.
+     */
+    public void setMethodPattern(Pattern methodPattern) {
+        this.methodPattern = methodPattern;
+    }
+
+    /**
+     * Sets the pattern the simple name of the class of a method must match for its name to be checked.
+     */
+    public void setClassPattern(Pattern classPattern) {
+        this.classPattern = classPattern;
+    }
+
+    /**
+     * Sets the simple names of the annotations which mark a method as hot path in any class.
+     */
+    public void setAnnotations(String... annotations) {
+        this.annotations = new HashSet<String>(Arrays.asList(annotations));
+    }
+
+    /**
+     * Sets the names of varargs methods of other classes, like {@code format} of {@code String.format(...)}.
+     */
+    public void setVarargsMethods(String... varargsMethods) {
+        this.varargsMethods = new HashSet<String>(Arrays.asList(varargsMethods));
+    }
+
+    @Override
+    public int[] getRequiredTokens() {
+        return new int[] { TokenTypes.METHOD_DEF };
+    }
+
+    @Override
+    public int[] getDefaultTokens() {
+        return getRequiredTokens();
+    }
+
+    @Override
+    public int[] getAcceptableTokens() {
+        return getRequiredTokens();
+    }
+
+    @Override
+    public void beginTree(DetailAST rootAST) {
+        fileVarargsMethods.clear();
+        for (DetailAST ast = rootAST; ast != null; ast = ast.getNextSibling()) {
+            collectMethods(ast);
+        }
+    }
+
+    @Override
+    public void visitToken(DetailAST ast) {
+        DetailAST body = ast.findFirstToken(TokenTypes.SLIST);
+        if (body == null || !isHotPath(ast)) {
+            return;
+        }
+        methodName = ast.findFirstToken(TokenTypes.IDENT).getText();
+        returnKind = kind(ast.findFirstToken(TokenTypes.TYPE));
+        variables.clear();
+        for (DetailAST member = ast.getParent().getFirstChild(); member != null; member = member.getNextSibling()) {
+            if (member.getType() == TokenTypes.VARIABLE_DEF) {
+                boolean isStatic = member.findFirstToken(TokenTypes.MODIFIERS)
+                        .findFirstToken(TokenTypes.LITERAL_STATIC) != null;
+                declare(member, !isStatic);
+            }
+        }
+        collectLocals(ast.findFirstToken(TokenTypes.PARAMETERS));
+        collectLocals(body);
+        check(body);
+    }
+
+    private boolean isHotPath(DetailAST method) {
+        for (DetailAST child = method.findFirstToken(TokenTypes.MODIFIERS).getFirstChild(); child != null;
+             child = child.getNextSibling()) {
+            if (child.getType() == TokenTypes.ANNOTATION) {
+                DetailAST name = child.getFirstChild().getNextSibling();
+                if (name.getType() == TokenTypes.DOT) {
+                    name = name.getLastChild();
+                }
+                if (annotations.contains(name.getText())) {
+                    return true;
+                }
+            }
+        }
+        if (!methodPattern.matcher(method.findFirstToken(TokenTypes.IDENT).getText()).matches()) {
+            return false;
+        }
+        DetailAST classAST = method.getParent().getParent();
+        DetailAST className = classAST.findFirstToken(TokenTypes.IDENT);
+        return className != null && classPattern.matcher(className.getText()).matches();
+    }
+
+    private void collectMethods(DetailAST ast) {
+        if (ast.getType() == TokenTypes.METHOD_DEF || ast.getType() == TokenTypes.CTOR_DEF) {
+            String name = ast.findFirstToken(TokenTypes.IDENT).getText();
+            DetailAST parameters = ast.findFirstToken(TokenTypes.PARAMETERS);
+            Object fixed = AMBIGUOUS;
+            if (!fileVarargsMethods.containsKey(name) && parameters.getLastChild() != null &&
+                    parameters.getLastChild().findFirstToken(TokenTypes.ELLIPSIS) != null) {
+                fixed = parameters.getChildCount(TokenTypes.PARAMETER_DEF) - 1;
+            }
+            fileVarargsMethods.put(name, fixed);
+        }
+        for (DetailAST child = ast.getFirstChild(); child != null; child = child.getNextSibling()) {
+            collectMethods(child);
+        }
+    }
+
+    // The variables of lambdas and anonymous classes are not collected, they would hide the ones of the method.
+    private void collectLocals(DetailAST ast) {
+        for (DetailAST child = ast.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getType() == TokenTypes.VARIABLE_DEF || child.getType() == TokenTypes.PARAMETER_DEF) {
+                declare(child, true);
+            }
+            if (child.getType() != TokenTypes.LAMBDA && child.getType() != TokenTypes.OBJBLOCK) {
+                collectLocals(child);
+            }
+        }
+    }
+
+    private void declare(DetailAST ast, boolean captured) {
+        DetailAST type = ast.findFirstToken(TokenTypes.TYPE);
+        Kind kind = kind(type);
+        if (ast.findFirstToken(TokenTypes.ELLIPSIS) != null ||
+                ast.findFirstToken(TokenTypes.ARRAY_DECLARATOR) != null) {
+            kind = Kind.ARRAY;
+        }
+        variables.put(ast.findFirstToken(TokenTypes.IDENT).getText(), new Variable(kind, captured));
+    }
+
+    private static Kind kind(DetailAST type) {
+        if (type == null) {
+            return Kind.OTHER;
+        }
+        if (type.findFirstToken(TokenTypes.ARRAY_DECLARATOR) != null) {
+            return Kind.ARRAY;
+        }
+        DetailAST name = type.getFirstChild();
+        while (name != null && name.getType() == TokenTypes.ANNOTATION) {
+            name = name.getNextSibling();
+        }
+        if (name == null) {
+            // The parameters of an implicitly typed lambda like (a, b) -> a + b
+            return Kind.OTHER;
+        }
+        switch (name.getType()) {
+            case TokenTypes.LITERAL_BOOLEAN:
+            case TokenTypes.LITERAL_BYTE:
+            case TokenTypes.LITERAL_CHAR:
+            case TokenTypes.LITERAL_SHORT:
+            case TokenTypes.LITERAL_INT:
+            case TokenTypes.LITERAL_LONG:
+            case TokenTypes.LITERAL_FLOAT:
+            case TokenTypes.LITERAL_DOUBLE:
+                return Kind.PRIMITIVE;
+            case TokenTypes.IDENT:
+                if ("String".equals(name.getText())) {
+                    return Kind.STRING;
+                }
+                return BOXED_TYPES.contains(name.getText()) ? Kind.BOXED : Kind.OTHER;
+            default:
+                return Kind.OTHER;
+        }
+    }
+
+    private void check(DetailAST ast) {
+        switch (ast.getType()) {
+            case TokenTypes.LITERAL_THROW:
+            case TokenTypes.LITERAL_ASSERT:
+            case TokenTypes.CLASS_DEF:
+            case TokenTypes.OBJBLOCK:
+                return;
+            case TokenTypes.LITERAL_NEW:
+                report(ast, ast.findFirstToken(TokenTypes.OBJBLOCK) == null ? "new" : "new anonymous class");
+                break;
+            case TokenTypes.LAMBDA:
+                if (isCapturing(ast)) {
+                    report(ast, "capturing lambda");
+                }
+                return;
+            case TokenTypes.METHOD_REF:
+                if (isBound(ast.getFirstChild())) {
+                    report(ast, "bound method reference");
+                }
+                return;
+            case TokenTypes.METHOD_CALL:
+                checkVarargs(ast);
+                break;
+            case TokenTypes.PLUS:
+                if (isConcatenation(ast)) {
+                    report(ast, "string concatenation");
+                    checkOperands(ast);
+                    return;
+                }
+                break;
+            case TokenTypes.PLUS_ASSIGN:
+                if (is(ast.getFirstChild(), Kind.STRING)) {
+                    report(ast, "string concatenation");
+                }
+                break;
+            case TokenTypes.VARIABLE_DEF:
+                DetailAST assign = ast.findFirstToken(TokenTypes.ASSIGN);
+                if (assign != null && kind(ast.findFirstToken(TokenTypes.TYPE)) == Kind.BOXED) {
+                    checkBoxing(assign.getFirstChild());
+                }
+                break;
+            case TokenTypes.ASSIGN:
+                if (ast.getParent().getType() != TokenTypes.VARIABLE_DEF && is(ast.getFirstChild(), Kind.BOXED)) {
+                    checkBoxing(ast.getLastChild());
+                }
+                break;
+            case TokenTypes.LITERAL_RETURN:
+                if (returnKind == Kind.BOXED && ast.getFirstChild().getType() == TokenTypes.EXPR) {
+                    checkBoxing(ast.getFirstChild());
+                }
+                break;
+            case TokenTypes.FOR_EACH_CLAUSE:
+                DetailAST iterable = ast.getLastChild().getFirstChild();
+                if (iterable.getType() == TokenTypes.IDENT && variables.containsKey(iterable.getText()) &&
+                        variables.get(iterable.getText()).kind != Kind.ARRAY) {
+                    report(ast, "iterator of enhanced for loop over " + iterable.getText());
+                }
+                break;
+            default:
+                break;
+        }
+        for (DetailAST child = ast.getFirstChild(); child != null; child = child.getNextSibling()) {
+            check(child);
+        }
+    }
+
+    private void report(DetailAST ast, String allocation) {
+        log(ast.getLineNo(), ast.getColumnNo(), MESSAGE, methodName, allocation);
+    }
+
+    private void checkOperands(DetailAST concatenation) {
+        for (DetailAST child = concatenation.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getType() == TokenTypes.PLUS) {
+                checkOperands(child);
+            } else {
+                check(child);
+            }
+        }
+    }
+
+    private void checkBoxing(DetailAST ast) {
+        if (ast.getType() == TokenTypes.EXPR) {
+            ast = ast.getFirstChild();
+        }
+        if (is(ast, Kind.PRIMITIVE)) {
+            report(ast, "autoboxing of " + ast.getText());
+        }
+    }
+
+    private boolean is(DetailAST ast, Kind kind) {
+        if (ast.getType() != TokenTypes.IDENT) {
+            return false;
+        }
+        Variable variable = variables.get(ast.getText());
+        return variable != null && variable.kind == kind;
+    }
+
+    private void checkVarargs(DetailAST call) {
+        DetailAST name = call.getFirstChild();
+        boolean local = name.getType() == TokenTypes.IDENT;
+        if (name.getType() == TokenTypes.DOT) {
+            local = name.getFirstChild().getType() == TokenTypes.LITERAL_THIS;
+            name = name.getLastChild();
+        }
+        if (name.getType() != TokenTypes.IDENT) {
+            return;
+        }
+        if (varargsMethods.contains(name.getText())) {
+            report(call, "varargs call of " + name.getText() + "()");
+            return;
+        }
+        Object fixed = local ? fileVarargsMethods.get(name.getText()) : null;
+        // With exactly one varargs argument it may be an array which is passed as is.
+        if (fixed instanceof Integer &&
+                call.findFirstToken(TokenTypes.ELIST).getChildCount(TokenTypes.EXPR) != (Integer) fixed + 1) {
+            report(call, "varargs call of " + name.getText() + "()");
+        }
+    }
+
+    // A + is a concatenation if one of its operands is a string, unless all operands are constants.
+    private boolean isConcatenation(DetailAST ast) {
+        return !isConstant(ast) && hasStringOperand(ast);
+    }
+
+    private boolean hasStringOperand(DetailAST ast) {
+        for (DetailAST child = ast.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getType() == TokenTypes.STRING_LITERAL || is(child, Kind.STRING) ||
+                    child.getType() == TokenTypes.PLUS && hasStringOperand(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isConstant(DetailAST ast) {
+        switch (ast.getType()) {
+            case TokenTypes.STRING_LITERAL:
+            case TokenTypes.CHAR_LITERAL:
+            case TokenTypes.NUM_INT:
+            case TokenTypes.NUM_LONG:
+                return true;
+            case TokenTypes.PLUS:
+                return isConstant(ast.getFirstChild()) && isConstant(ast.getLastChild());
+            default:
+                return false;
+        }
+    }
+
+    // A lambda is allocated on every evaluation if it refers to a local variable, this or an instance field.
+    private boolean isCapturing(DetailAST lambda) {
+        Set<String> declared = new HashSet<String>();
+        collectDeclared(lambda, declared);
+        return captures(lambda, declared);
+    }
+
+    private static void collectDeclared(DetailAST ast, Set<String> declared) {
+        for (DetailAST child = ast.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getType() == TokenTypes.VARIABLE_DEF || child.getType() == TokenTypes.PARAMETER_DEF) {
+                declared.add(child.findFirstToken(TokenTypes.IDENT).getText());
+            } else if (child.getType() == TokenTypes.IDENT && ast.getType() == TokenTypes.LAMBDA) {
+                // Single parameter without parentheses.
+                declared.add(child.getText());
+            }
+            collectDeclared(child, declared);
+        }
+    }
+
+    private boolean captures(DetailAST ast, Set<String> declared) {
+        for (DetailAST child = ast.getFirstChild(); child != null; child = child.getNextSibling()) {
+            switch (child.getType()) {
+                case TokenTypes.LITERAL_THIS:
+                case TokenTypes.LITERAL_SUPER:
+                    return true;
+                case TokenTypes.IDENT:
+                    if (isVariableReference(child) && !declared.contains(child.getText())) {
+                        Variable variable = variables.get(child.getText());
+                        if (variable != null && variable.captured) {
+                            return true;
+                        }
+                    }
+                    break;
+                case TokenTypes.TYPE:
+                    continue;
+                default:
+                    break;
+            }
+            if (captures(child, declared)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Excludes member names after a dot and the names of called methods.
+    private static boolean isVariableReference(DetailAST ident) {
+        DetailAST parent = ident.getParent();
+        if (parent.getType() == TokenTypes.DOT) {
+            return parent.getFirstChild() == ident;
+        }
+        return parent.getType() != TokenTypes.METHOD_CALL && parent.getType() != TokenTypes.METHOD_REF ||
+                parent.getFirstChild() == ident && parent.getType() == TokenTypes.METHOD_REF;
+    }
+
+    // this::method and variable::method allocate, Type::method and Type::new do not.
+    private boolean isBound(DetailAST receiver) {
+        switch (receiver.getType()) {
+            case TokenTypes.LITERAL_THIS:
+            case TokenTypes.LITERAL_SUPER:
+                return true;
+            case TokenTypes.IDENT:
+                Variable variable = variables.get(receiver.getText());
+                return variable != null && variable.captured;
+            case TokenTypes.DOT:
+                return receiver.findFirstToken(TokenTypes.LITERAL_THIS) != null;
+            case TokenTypes.METHOD_CALL:
+            case TokenTypes.LITERAL_NEW:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
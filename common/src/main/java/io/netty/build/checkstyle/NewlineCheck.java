@@ -20,8 +20,12 @@ import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
 import com.puppycrawl.tools.checkstyle.api.FileText;
 
 import java.io.File;
-import java.util.regex.Pattern;
 
+/**
+ * Makes sure only the line separator of the platform is used. The text is scanned once without regular expressions
+ * and every invalid newline character is reported with its line and column, up to {@link #setMaxViolations(int)}
+ * per file.
+ */
 public class NewlineCheck extends AbstractFileSetCheck {
 
     private enum NewlineType {
@@ -33,8 +37,7 @@ public class NewlineCheck extends AbstractFileSetCheck {
         RS
     }
 
-    private static final Pattern NON_CRLF = Pattern.compile("(?:[^\r]\n|\r[^\n])");
-    private static final Pattern NON_LFCR = Pattern.compile("(?:[^\n]\r|\n[^\r])");
+    private static final char RS = '\u001E';
 
     private static final NewlineType NEWLINE_TYPE;
 
@@ -55,40 +58,88 @@ public class NewlineCheck extends AbstractFileSetCheck {
         }
     }
 
+    private static final String MESSAGE = "invalid newline character (expected: " + NEWLINE_TYPE + ')';
+
+    private int maxViolations = 100;
+
+    /**
+     * Sets the maximal number of violations reported per file.
+     */
+    public void setMaxViolations(int maxViolations) {
+        this.maxViolations = maxViolations;
+    }
+
     @Override
     protected void processFiltered(File file, FileText fileText) {
+        if (NEWLINE_TYPE == NewlineType.UNKNOWN) {
+            return;
+        }
+        // FileText keeps the decoded text as a String, so this does not copy it.
         String text = fileText.getFullText().toString();
+        int line = 1;
+        int lineStart = 0;
+        int counted = 0;
+        int violations = 0;
+        for (int i = nextCandidate(text, 0); i >= 0 && violations < maxViolations; i = nextCandidate(text, i + 1)) {
+            if (!isInvalid(text, i)) {
+                continue;
+            }
+            // Only count lines up to a violation, like FileText does: "\r\n", "\r" and "\n" each end a line.
+            for (; counted < i; counted++) {
+                char c = text.charAt(counted);
+                if (c == '\n' || c == '\r' && text.charAt(counted + 1) != '\n') {
+                    line++;
+                    lineStart = counted + 1;
+                }
+            }
+            int column = i - lineStart;
+            if (column > 0 && text.charAt(i) == '\n' && text.charAt(i - 1) == '\r') {
+                // Report the start of the "\r\n" sequence, which is still part of the current line.
+                column--;
+            }
+            log(line, column, MESSAGE);
+            violations++;
+        }
+    }
 
+    /**
+     * Returns the index of the next character which may be an invalid newline, or {@code -1} if there is none.
+     */
+    private static int nextCandidate(String text, int fromIndex) {
         switch (NEWLINE_TYPE) {
         case LF:
-            if (text.indexOf('\r') >= 0) {
-                reportNewlineViolation();
-            }
-            break;
+            return text.indexOf('\r', fromIndex);
         case CR:
-            if (text.indexOf('\n') >= 0) {
-                reportNewlineViolation();
+            return text.indexOf('\n', fromIndex);
+        case RS:
+            return text.indexOf(RS, fromIndex);
+        default:
+            // Every newline character needs to be looked at for the two character separators.
+            for (int i = fromIndex; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '\n' || c == '\r') {
+                    return i;
+                }
             }
-            break;
+            return -1;
+        }
+    }
+
+    private static boolean isInvalid(String text, int index) {
+        char c = text.charAt(index);
+        switch (NEWLINE_TYPE) {
         case CRLF:
-            if (NON_CRLF.matcher(text).find()) {
-                reportNewlineViolation();
+            if (c == '\r') {
+                return index + 1 == text.length() || text.charAt(index + 1) != '\n';
             }
-            break;
+            return index == 0 || text.charAt(index - 1) != '\r';
         case LFCR:
-            if (NON_LFCR.matcher(text).find()) {
-                reportNewlineViolation();
-            }
-            break;
-        case RS:
-            if (text.indexOf('\u001E') >= 0) {
-                reportNewlineViolation();
+            if (c == '\n') {
+                return index + 1 == text.length() || text.charAt(index + 1) != '\r';
             }
-            break;
+            return index == 0 || text.charAt(index - 1) != '\n';
+        default:
+            return true;
         }
     }
-
-    private void reportNewlineViolation() {
-        log(0, "invalid newline character (expected: " + NEWLINE_TYPE + ')');
-    }
 }
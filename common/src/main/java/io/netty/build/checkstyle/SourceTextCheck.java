@@ -0,0 +1,480 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.netty.build.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+import com.puppycrawl.tools.checkstyle.checks.LineSeparatorOption;
+import com.puppycrawl.tools.checkstyle.checks.NewlineAtEndOfFileCheck;
+import com.puppycrawl.tools.checkstyle.checks.regexp.RegexpMultilineCheck;
+import com.puppycrawl.tools.checkstyle.checks.regexp.RegexpSinglelineCheck;
+import com.puppycrawl.tools.checkstyle.checks.whitespace.FileTabCharacterCheck;
+import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
+
+import java.io.File;
+import java.util.Locale;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs the text based rules of {@code io/netty/checkstyle.xml} in a single pass over every file. It replaces
+ * {@code FileTabCharacter}, {@code NewlineAtEndOfFile} and the following {@code RegexpSingleline} /
+ * {@code RegexpMultiline} modules, reporting the same violations on the same lines:
+ * <ul>
+ *   <li>{@code copyrightFormat}: {@code ^(\s|\*|#)*Copyright\s+[0-9]+\s+The Netty Project\s*$} must match
+ *   exactly one line</li>
+ *   <li>{@code javadocTagFormat}: {@code (@(author|version)|\(non-Javadoc\))}, ignoring case</li>
+ *   <li>{@code ideCommentFormat}: {@code File \| Settings \| File Templates}</li>
+ *   <li>{@code trailingWhitespaceFormat}: {@code \s+$}</li>
+ *   <li>{@code consecutiveEmptyLinesFormat}: {@code \n *(?!package )(?!import )[^\n]+\n{3,}}</li>
+ *   <li>{@code emptyLineBeforeRightCurlyFormat}: {@code \n\n\s+\}[^\n]{0,10}\n}</li>
+ *   <li>{@code emptyLineAfterLeftCurlyFormat}: {@code \n\s+[^\n]{1,8}\{\n\n}</li>
+ * </ul>
+ * The default patterns are matched by hand, so no regular expression is evaluated. A rule whose format is changed
+ * is matched with the regular expression, like the module it replaces.
+ * <p>
+ * Every violation is reported with the source and message key of the module it replaces, so existing
+ * {@code <suppress checks="RegexpSingleline|FileTabCharacter|..."/>} entries and
+ * {@code @SuppressWarnings("checkstyle:...")} annotations keep working. Suppressions by {@code id} need the id to
+ * be set on this module instead, as it applies to all of its rules.
+ */
+public class SourceTextCheck extends AbstractFileSetCheck {
+
+    private static final String COPYRIGHT = "Copyright";
+    private static final String NETTY_PROJECT = "The Netty Project";
+    private static final String IDE_COMMENT = "File | Settings | File Templates";
+
+    private static final String COPYRIGHT_FORMAT = "^(\\s|\\*|#)*Copyright\\s+[0-9]+\\s+The Netty Project\\s*$";
+    private static final String JAVADOC_TAG_FORMAT = "(@(author|version)|\\(non-Javadoc\\))";
+    private static final String IDE_COMMENT_FORMAT = "File \\| Settings \\| File Templates";
+    private static final String TRAILING_WHITESPACE_FORMAT = "\\s+$";
+    private static final String CONSECUTIVE_EMPTY_LINES_FORMAT = "\\n *(?!package )(?!import )[^\\n]+\\n{3,}";
+    private static final String EMPTY_LINE_BEFORE_RIGHT_CURLY_FORMAT = "\\n\\n\\s+\\}[^\\n]{0,10}\\n";
+    private static final String EMPTY_LINE_AFTER_LEFT_CURLY_FORMAT = "\\n\\s+[^\\n]{1,8}\\{\\n\\n";
+
+    // The message keys of FileTabCharacter and NewlineAtEndOfFile.
+    private static final String FILE_CONTAINS_TAB = "file.containsTab";
+    private static final String LINE_CONTAINS_TAB = "containsTab";
+    private static final String NO_NEWLINE_AT_EOF = "noNewlineAtEOF";
+    private static final String WRONG_LINE_END = "wrong.line.end";
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    // Flags returned by checkLine(...)
+    private static final int COPYRIGHT_FOUND = 1;
+    private static final int TAB_FOUND = 2;
+
+    private String copyrightMessage = "missing copyright header";
+    private String javadocTagMessage = "unmaintainable Javadoc tags: @author, @version, or (non-Javadoc)";
+    private String ideCommentMessage = "IDE-generated comment";
+    private String trailingWhitespaceMessage = "trailing whitespace";
+    private String consecutiveEmptyLinesMessage = "two or more consecutive empty lines";
+    private String emptyLineBeforeRightCurlyMessage = "an empty line before '}'";
+    private String emptyLineAfterLeftCurlyMessage = "an empty line after a short line that ends with '{'";
+    // The patterns of the rules whose format was changed, null if the default format is matched by hand.
+    private Pattern copyrightPattern;
+    private Pattern javadocTagPattern;
+    private Pattern ideCommentPattern;
+    private Pattern trailingWhitespacePattern;
+    private Pattern consecutiveEmptyLinesPattern;
+    private Pattern emptyLineBeforeRightCurlyPattern;
+    private Pattern emptyLineAfterLeftCurlyPattern;
+    private boolean tabEachLine;
+    private LineSeparatorOption lineSeparator = LineSeparatorOption.LF_CR_CRLF;
+
+    public void setCopyrightMessage(String copyrightMessage) {
+        this.copyrightMessage = copyrightMessage;
+    }
+
+    public void setJavadocTagMessage(String javadocTagMessage) {
+        this.javadocTagMessage = javadocTagMessage;
+    }
+
+    public void setIdeCommentMessage(String ideCommentMessage) {
+        this.ideCommentMessage = ideCommentMessage;
+    }
+
+    public void setTrailingWhitespaceMessage(String trailingWhitespaceMessage) {
+        this.trailingWhitespaceMessage = trailingWhitespaceMessage;
+    }
+
+    public void setConsecutiveEmptyLinesMessage(String consecutiveEmptyLinesMessage) {
+        this.consecutiveEmptyLinesMessage = consecutiveEmptyLinesMessage;
+    }
+
+    public void setEmptyLineBeforeRightCurlyMessage(String emptyLineBeforeRightCurlyMessage) {
+        this.emptyLineBeforeRightCurlyMessage = emptyLineBeforeRightCurlyMessage;
+    }
+
+    public void setEmptyLineAfterLeftCurlyMessage(String emptyLineAfterLeftCurlyMessage) {
+        this.emptyLineAfterLeftCurlyMessage = emptyLineAfterLeftCurlyMessage;
+    }
+
+    public void setCopyrightFormat(String copyrightFormat) {
+        copyrightPattern = compile(copyrightFormat, COPYRIGHT_FORMAT, 0);
+    }
+
+    /**
+     * The format is matched ignoring case, as {@code ignoreCase} was set for this rule.
+     */
+    public void setJavadocTagFormat(String javadocTagFormat) {
+        javadocTagPattern = compile(javadocTagFormat, JAVADOC_TAG_FORMAT, Pattern.CASE_INSENSITIVE);
+    }
+
+    public void setIdeCommentFormat(String ideCommentFormat) {
+        ideCommentPattern = compile(ideCommentFormat, IDE_COMMENT_FORMAT, 0);
+    }
+
+    public void setTrailingWhitespaceFormat(String trailingWhitespaceFormat) {
+        trailingWhitespacePattern = compile(trailingWhitespaceFormat, TRAILING_WHITESPACE_FORMAT, 0);
+    }
+
+    public void setConsecutiveEmptyLinesFormat(String consecutiveEmptyLinesFormat) {
+        consecutiveEmptyLinesPattern = compile(consecutiveEmptyLinesFormat, CONSECUTIVE_EMPTY_LINES_FORMAT,
+                Pattern.MULTILINE);
+    }
+
+    public void setEmptyLineBeforeRightCurlyFormat(String emptyLineBeforeRightCurlyFormat) {
+        emptyLineBeforeRightCurlyPattern = compile(emptyLineBeforeRightCurlyFormat,
+                EMPTY_LINE_BEFORE_RIGHT_CURLY_FORMAT, Pattern.MULTILINE);
+    }
+
+    public void setEmptyLineAfterLeftCurlyFormat(String emptyLineAfterLeftCurlyFormat) {
+        emptyLineAfterLeftCurlyPattern = compile(emptyLineAfterLeftCurlyFormat,
+                EMPTY_LINE_AFTER_LEFT_CURLY_FORMAT, Pattern.MULTILINE);
+    }
+
+    /**
+     * Report every line with a tab character instead of only the first one, like
+     * {@code FileTabCharacter.eachLine}.
+     */
+    public void setTabEachLine(boolean tabEachLine) {
+        this.tabEachLine = tabEachLine;
+    }
+
+    /**
+     * The line separator the file must end with, like {@code NewlineAtEndOfFile.lineSeparator}.
+     */
+    public void setLineSeparator(String lineSeparator) {
+        this.lineSeparator = LineSeparatorOption.valueOf(lineSeparator.trim().toUpperCase(Locale.ENGLISH));
+    }
+
+    // The flags are the ones RegexpSingleline and RegexpMultiline compile the format with.
+    private static Pattern compile(String format, String defaultFormat, int flags) {
+        return format.equals(defaultFormat) ? null : Pattern.compile(format, flags);
+    }
+
+    @Override
+    protected void processFiltered(File file, FileText fileText) {
+        // FileText keeps the decoded text as a String, so this does not copy it.
+        String text = fileText.getFullText().toString();
+        int length = text.length();
+        int lineCount = fileText.size();
+        SortedSet<Violation> violations = new TreeSet<Violation>();
+
+        int copyrights = 0;
+        boolean checkTabs = true;
+        int nextCr = text.indexOf('\r');
+
+        // The regular expressions of the multiline rules never overlap with their previous match, so the end of
+        // the last match of each rule is tracked.
+        int consecutiveEmptyLinesEnd = 0;
+        int beforeRightCurlyEnd = 0;
+        int afterLeftCurlyEnd = 0;
+        // Line to report for the pending "\n\n\s+" match, or -1 if there is none.
+        int beforeRightCurlyLine = -1;
+        boolean beforeRightCurlyWhitespace = false;
+        // Line to report for the leftmost possible "\n\s+" match in the current run of blank lines.
+        int afterLeftCurlyLine = -1;
+
+        // Walk the text by '\n', which the multiline rules are based on. The line number of a match is the line of
+        // its first character, which is the '\n' before the current segment, so the reported line is lineIndex.
+        int lineIndex = 0;
+        for (int start = 0;;) {
+            int end = text.indexOf('\n', start);
+            boolean terminated = end >= 0;
+            if (!terminated) {
+                end = length;
+            }
+
+            // FileText also breaks lines at a lone '\r'.
+            int lines = 1;
+            while (nextCr >= 0 && nextCr < end) {
+                if (nextCr < end - 1) {
+                    lines++;
+                }
+                nextCr = text.indexOf('\r', nextCr + 1);
+            }
+            for (int i = lineIndex; i < lineIndex + lines && i < lineCount; i++) {
+                int result = checkLine(violations, fileText.get(i), i + 1, checkTabs);
+                if ((result & COPYRIGHT_FOUND) != 0 && ++copyrights > 1) {
+                    report(violations, RegexpSinglelineCheck.class, i + 1, 0, copyrightMessage);
+                }
+                if ((result & TAB_FOUND) != 0 && !tabEachLine) {
+                    checkTabs = false;
+                }
+            }
+
+            int leadingWhitespace = 0;
+            while (start + leadingWhitespace < end && isWhitespace(text.charAt(start + leadingWhitespace))) {
+                leadingWhitespace++;
+            }
+            boolean blank = start + leadingWhitespace == end;
+            boolean afterNewline = start > 0;
+
+            // \n *(?!package )(?!import )[^\n]+\n{3,}
+            if (consecutiveEmptyLinesPattern == null && afterNewline && start - 1 >= consecutiveEmptyLinesEnd &&
+                    end > start &&
+                    (text.charAt(start) == ' ' ||
+                            !text.startsWith("package ", start) && !text.startsWith("import ", start)) &&
+                    end + 2 < length && text.charAt(end) == '\n' && text.charAt(end + 1) == '\n' &&
+                    text.charAt(end + 2) == '\n') {
+                report(violations, RegexpMultilineCheck.class, lineIndex, 0, consecutiveEmptyLinesMessage);
+                consecutiveEmptyLinesEnd = end + 3;
+                while (consecutiveEmptyLinesEnd < length && text.charAt(consecutiveEmptyLinesEnd) == '\n') {
+                    consecutiveEmptyLinesEnd++;
+                }
+            }
+
+            // \n\n\s+\}[^\n]{0,10}\n
+            if (emptyLineBeforeRightCurlyPattern != null) {
+                // Matched by findMatches(...)
+            } else if (beforeRightCurlyLine >= 0) {
+                if (blank && terminated) {
+                    beforeRightCurlyWhitespace = true;
+                } else {
+                    int curly = start + leadingWhitespace;
+                    if (!blank && terminated && text.charAt(curly) == '}' &&
+                            (beforeRightCurlyWhitespace || leadingWhitespace > 0) && end - curly - 1 <= 10) {
+                        report(violations, RegexpMultilineCheck.class, beforeRightCurlyLine, 0,
+                                emptyLineBeforeRightCurlyMessage);
+                        beforeRightCurlyEnd = end + 1;
+                    }
+                    beforeRightCurlyLine = -1;
+                }
+            } else if (afterNewline && start == end && terminated && start - 1 >= beforeRightCurlyEnd) {
+                beforeRightCurlyLine = lineIndex;
+                beforeRightCurlyWhitespace = false;
+            }
+
+            // \n\s+[^\n]{1,8}\{\n\n
+            if (emptyLineAfterLeftCurlyPattern != null) {
+                // Matched by findMatches(...)
+            } else if (blank) {
+                if (afterLeftCurlyLine < 0 && afterNewline && start - 1 >= afterLeftCurlyEnd) {
+                    afterLeftCurlyLine = lineIndex;
+                }
+            } else {
+                int reportLine = afterLeftCurlyLine;
+                // Whether \s+ needs to match at least one character of this line.
+                int minWhitespace = 0;
+                if (reportLine < 0 && afterNewline && start - 1 >= afterLeftCurlyEnd) {
+                    reportLine = lineIndex;
+                    minWhitespace = 1;
+                }
+                if (reportLine >= 0 && text.charAt(end - 1) == '{' && end + 1 < length &&
+                        text.charAt(end) == '\n' && text.charAt(end + 1) == '\n') {
+                    // \s+ may leave some of the leading whitespace to [^\n]{1,8}.
+                    int beforeCurly = end - 1 - start;
+                    if (Math.max(minWhitespace, beforeCurly - 8) <= Math.min(leadingWhitespace, beforeCurly - 1)) {
+                        report(violations, RegexpMultilineCheck.class, reportLine, 0,
+                                emptyLineAfterLeftCurlyMessage);
+                        afterLeftCurlyEnd = end + 2;
+                    }
+                }
+                afterLeftCurlyLine = -1;
+            }
+
+            if (!terminated) {
+                break;
+            }
+            lineIndex += lines;
+            start = end + 1;
+        }
+
+        if (copyrights == 0) {
+            report(violations, RegexpSinglelineCheck.class, 1, 0, copyrightMessage);
+        }
+        if (lineSeparator == LineSeparatorOption.LF && endsWith(text, LineSeparatorOption.CRLF)) {
+            report(violations, NewlineAtEndOfFileCheck.class, 1, 0, WRONG_LINE_END);
+        } else if (!endsWith(text, lineSeparator)) {
+            report(violations, NewlineAtEndOfFileCheck.class, 1, 0, NO_NEWLINE_AT_EOF);
+        }
+        findMatches(violations, fileText, consecutiveEmptyLinesPattern, consecutiveEmptyLinesMessage);
+        findMatches(violations, fileText, emptyLineBeforeRightCurlyPattern, emptyLineBeforeRightCurlyMessage);
+        findMatches(violations, fileText, emptyLineAfterLeftCurlyPattern, emptyLineAfterLeftCurlyMessage);
+        addViolations(violations);
+    }
+
+    /**
+     * Reports every match of a multiline rule whose format was changed, like {@code RegexpMultiline}.
+     */
+    private void findMatches(SortedSet<Violation> violations, FileText fileText, Pattern pattern, String message) {
+        if (pattern == null) {
+            return;
+        }
+        Matcher matcher = pattern.matcher(fileText.getFullText());
+        while (matcher.find()) {
+            report(violations, RegexpMultilineCheck.class, fileText.lineColumn(matcher.start()).getLine(), 0,
+                    message);
+        }
+    }
+
+    /**
+     * Adds a violation with the source and message bundle of the module that used to report it. The message is
+     * looked up by {@code key} in the bundle, or is the key itself if the bundle has no such key.
+     */
+    private void report(SortedSet<Violation> violations, Class<?> source, int line, int column, String key) {
+        violations.add(new Violation(line, column, source.getPackage().getName() + ".messages", key, NO_ARGS,
+                getSeverityLevel(), getId(), source, getCustomMessages().get(key)));
+    }
+
+    /**
+     * Applies the single line rules and returns {@link #COPYRIGHT_FOUND} and {@link #TAB_FOUND} flags.
+     */
+    private int checkLine(SortedSet<Violation> violations, String line, int lineNo, boolean checkTabs) {
+        int length = line.length();
+        int tab = -1;
+        int prefixEnd = -1;
+        boolean javadocTag = false;
+        boolean ideComment = false;
+        for (int i = 0; i < length; i++) {
+            char c = line.charAt(i);
+            switch (c) {
+            case '\t':
+                if (tab < 0) {
+                    tab = i;
+                }
+                break;
+            case '@':
+                javadocTag |= regionMatchesIgnoreCase(line, i + 1, "author") ||
+                        regionMatchesIgnoreCase(line, i + 1, "version");
+                break;
+            case '(':
+                javadocTag |= regionMatchesIgnoreCase(line, i + 1, "non-javadoc)");
+                break;
+            case 'F':
+                ideComment |= line.startsWith(IDE_COMMENT, i);
+                break;
+            default:
+                break;
+            }
+            if (prefixEnd < 0 && c != '*' && c != '#' && !isWhitespace(c)) {
+                prefixEnd = i;
+            }
+        }
+
+        int result = 0;
+        if (tab >= 0 && checkTabs) {
+            // Same column as FileTabCharacter, which expands the tabs before the first one.
+            report(violations, FileTabCharacterCheck.class, lineNo,
+                    1 + CommonUtil.lengthExpandedTabs(line, tab, getTabWidth()),
+                    tabEachLine ? LINE_CONTAINS_TAB : FILE_CONTAINS_TAB);
+            result |= TAB_FOUND;
+        }
+        if (javadocTagPattern != null ? javadocTagPattern.matcher(line).find() : javadocTag) {
+            report(violations, RegexpSinglelineCheck.class, lineNo, 0, javadocTagMessage);
+        }
+        if (ideCommentPattern != null ? ideCommentPattern.matcher(line).find() : ideComment) {
+            report(violations, RegexpSinglelineCheck.class, lineNo, 0, ideCommentMessage);
+        }
+        // '$' also matches before a final line terminator.
+        int end = length > 0 && isLineTerminator(line.charAt(length - 1)) ? length - 1 : length;
+        if (trailingWhitespacePattern != null ? trailingWhitespacePattern.matcher(line).find() :
+                end > 0 && isWhitespace(line.charAt(end - 1))) {
+            report(violations, RegexpSinglelineCheck.class, lineNo, 0, trailingWhitespaceMessage);
+        }
+        if (copyrightPattern != null ? copyrightPattern.matcher(line).find() :
+                prefixEnd >= 0 && line.startsWith(COPYRIGHT, prefixEnd) &&
+                isCopyrightSuffix(line, prefixEnd + COPYRIGHT.length(), end)) {
+            result |= COPYRIGHT_FOUND;
+        }
+        return result;
+    }
+
+    // \s+[0-9]+\s+The Netty Project\s*$
+    private static boolean isCopyrightSuffix(String line, int index, int end) {
+        int i = skipWhitespace(line, index, end);
+        if (i == index) {
+            return false;
+        }
+        int j = i;
+        while (j < end && line.charAt(j) >= '0' && line.charAt(j) <= '9') {
+            j++;
+        }
+        if (j == i) {
+            return false;
+        }
+        int k = skipWhitespace(line, j, end);
+        if (k == j || !line.startsWith(NETTY_PROJECT, k)) {
+            return false;
+        }
+        return skipWhitespace(line, k + NETTY_PROJECT.length(), end) == end;
+    }
+
+    private static int skipWhitespace(String line, int index, int end) {
+        while (index < end && isWhitespace(line.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    // Same as CASE_INSENSITIVE without UNICODE_CASE, the expected text must be lower case.
+    private static boolean regionMatchesIgnoreCase(String line, int index, String expected) {
+        if (index + expected.length() > line.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            char c = line.charAt(index + i);
+            if (c >= 'A' && c <= 'Z') {
+                c += 'a' - 'A';
+            }
+            if (c != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean endsWith(String text, LineSeparatorOption separator) {
+        int length = separator.length();
+        if (text.length() < length) {
+            return false;
+        }
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(text.length() - length + i);
+            if (c > 0x7f) {
+                return false;
+            }
+            bytes[i] = (byte) c;
+        }
+        return separator.matches(bytes);
+    }
+
+    // \s without UNICODE_CHARACTER_CLASS
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -18,23 +18,23 @@ package io.netty.build.checkstyle;
 
 import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
-import com.puppycrawl.tools.checkstyle.api.FileContents;
-import com.puppycrawl.tools.checkstyle.api.FullIdent;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 
-import java.util.regex.Pattern;
-
 /**
  * This check verifies that static final buffers are unreleasable and read-only.
  *
  * It aims to prevent corruption bugs like https://github.com/netty/netty/issues/11792
  * from happening in the future.
+ *
+ * The initializer is matched on the AST, so comments and line breaks do not matter. Buffers without an
+ * initializer must be assigned in a {@code static {}} block of the same class instead.
  */
 public class StaticFinalBufferCheck extends AbstractCheck {
 
-    // Pattern is not multiline because variable definition is flattened and trimmed before the match.
-    private static final Pattern pattern = Pattern.compile(
-            "(Unpooled\\s*\\.)?unreleasableBuffer\\(.*?\\)\\s*\\.asReadOnly\\(\\)");
+    private static final String MISSING_ASSIGNMENT = "Missing assignment for static final buffer";
+    // Same message as when the initializer was matched with this regular expression.
+    private static final String INVALID_ASSIGNMENT = "static final buffer assignment should match pattern " +
+            "(Unpooled\\s*\\.)?unreleasableBuffer\\(.*?\\)\\s*\\.asReadOnly\\(\\)";
 
     @Override
     public int[] getRequiredTokens() {
@@ -54,26 +54,119 @@ public class StaticFinalBufferCheck extends AbstractCheck {
     @Override
     public void visitToken(DetailAST ast) {
         DetailAST modifiersAST = ast.findFirstToken(TokenTypes.MODIFIERS);
-        boolean isStatic = modifiersAST.findFirstToken(TokenTypes.LITERAL_STATIC) != null;
-        boolean isFinal = modifiersAST.findFirstToken(TokenTypes.FINAL) != null;
-        FullIdent typeIdent = FullIdent.createFullIdentBelow(ast.findFirstToken(TokenTypes.TYPE));
-        if (!isStatic || !isFinal || !typeIdent.getText().endsWith("Buf")) {
+        if (modifiersAST.findFirstToken(TokenTypes.LITERAL_STATIC) == null ||
+                modifiersAST.findFirstToken(TokenTypes.FINAL) == null) {
+            return;
+        }
+        DetailAST typeAST = name(ast.findFirstToken(TokenTypes.TYPE).getFirstChild());
+        if (typeAST == null || !typeAST.getText().endsWith("Buf")) {
             return;
         }
         DetailAST assignAST = ast.findFirstToken(TokenTypes.ASSIGN);
-        DetailAST semiAST = ast.findFirstToken(TokenTypes.SEMI);
-        if (assignAST == null || semiAST == null) {
-            log(ast.getLineNo(), "Missing assignment for static final buffer");
+        if (assignAST != null) {
+            if (!isValidInitializer(assignAST.getFirstChild())) {
+                log(ast.getLineNo(), INVALID_ASSIGNMENT);
+            }
             return;
         }
-        FileContents fc = getFileContents();
-        StringBuilder sb = new StringBuilder();
-        for (int i = assignAST.getLineNo(); i <= semiAST.getLineNo(); i++) {
-            // getLineNo returns 1-based line number, getLine expects 0-based.
-            sb.append(fc.getLine(i - 1).trim());
+
+        // Blank final, look for the assignments in the static initializers of the enclosing class.
+        String fieldName = ast.findFirstToken(TokenTypes.IDENT).getText();
+        DetailAST objBlockAST = ast.getParent();
+        DetailAST classNameAST = objBlockAST.getParent().findFirstToken(TokenTypes.IDENT);
+        String className = classNameAST == null ? null : classNameAST.getText();
+        boolean assigned = false;
+        for (DetailAST child = objBlockAST.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getType() == TokenTypes.STATIC_INIT) {
+                assigned |= checkAssignments(child, fieldName, className);
+            }
+        }
+        if (!assigned) {
+            log(ast.getLineNo(), MISSING_ASSIGNMENT);
+        }
+    }
+
+    /**
+     * Checks all assignments to the given field below {@code ast} and returns {@code true} if there was any.
+     */
+    private boolean checkAssignments(DetailAST ast, String fieldName, String className) {
+        boolean assigned = false;
+        for (DetailAST child = ast.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getType() == TokenTypes.ASSIGN && isField(child.getFirstChild(), fieldName, className)) {
+                assigned = true;
+                if (!isValidInitializer(child.getLastChild())) {
+                    log(child.getLineNo(), INVALID_ASSIGNMENT);
+                }
+            } else if (checkAssignments(child, fieldName, className)) {
+                assigned = true;
+            }
+        }
+        return assigned;
+    }
+
+    // Matches FIELD and ClassName.FIELD
+    private static boolean isField(DetailAST ast, String fieldName, String className) {
+        if (ast.getType() == TokenTypes.IDENT) {
+            return fieldName.equals(ast.getText());
+        }
+        if (ast.getType() == TokenTypes.DOT) {
+            DetailAST qualifier = ast.getFirstChild();
+            return qualifier.getType() == TokenTypes.IDENT && qualifier.getText().equals(className) &&
+                    fieldName.equals(ast.getLastChild().getText());
+        }
+        return false;
+    }
+
+    // Matches unreleasableBuffer(...).asReadOnly() with an optional qualifier like Unpooled, as well as array
+    // initializers where every element matches.
+    private static boolean isValidInitializer(DetailAST ast) {
+        if (ast.getType() == TokenTypes.EXPR) {
+            ast = ast.getFirstChild();
+        }
+        if (ast.getType() == TokenTypes.LITERAL_NEW) {
+            ast = ast.findFirstToken(TokenTypes.ARRAY_INIT);
+            if (ast == null) {
+                return false;
+            }
+        }
+        if (ast.getType() == TokenTypes.ARRAY_INIT) {
+            for (DetailAST child = ast.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (child.getType() != TokenTypes.COMMA && child.getType() != TokenTypes.RCURLY &&
+                        !isValidInitializer(child)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (!isMethodCall(ast, "asReadOnly") || ast.findFirstToken(TokenTypes.ELIST).getChildCount() != 0) {
+            return false;
+        }
+        DetailAST callee = ast.getFirstChild();
+        return callee.getType() == TokenTypes.DOT && isMethodCall(callee.getFirstChild(), "unreleasableBuffer");
+    }
+
+    private static boolean isMethodCall(DetailAST ast, String methodName) {
+        if (ast.getType() != TokenTypes.METHOD_CALL) {
+            return false;
+        }
+        DetailAST nameAST = name(ast.getFirstChild());
+        return nameAST != null && methodName.equals(nameAST.getText());
+    }
+
+    /**
+     * Returns the rightmost identifier of a possibly qualified name, or {@code null} if there is none.
+     */
+    private static DetailAST name(DetailAST ast) {
+        if (ast.getType() == TokenTypes.IDENT) {
+            return ast;
         }
-        if (!pattern.matcher(sb.toString()).find()) {
-            log(ast.getLineNo(), "static final buffer assignment should match pattern " + pattern);
+        if (ast.getType() == TokenTypes.DOT) {
+            for (DetailAST child = ast.getLastChild(); child != null; child = child.getPreviousSibling()) {
+                if (child.getType() == TokenTypes.IDENT) {
+                    return child;
+                }
+            }
         }
+        return null;
     }
 }
@@ -19,36 +19,63 @@ import com.puppycrawl.tools.checkstyle.api.AuditEvent;
 import com.puppycrawl.tools.checkstyle.api.AutomaticBean;
 import com.puppycrawl.tools.checkstyle.api.Filter;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.regex.Pattern;
 
+/**
+ * Suppresses audit events by file name. Whether a file matches the patterns only depends on its name, so the
+ * verdict is computed once per file and kept in a bounded LRU cache.
+ */
 public class SuppressionFilter extends AutomaticBean implements Filter {
 
     private static final Pattern JAVA5PATTERN = Pattern.compile("/org/jboss/");
 
+    // Bits of the per file verdict.
+    private static final int SUPPRESS_ALL = 1;
+    private static final int SUPPRESS_MISSING_OVERRIDE = 2;
+    private static final int SUPPRESS_EXAMPLE = 4;
+
     private Pattern pattern;
     private Pattern examplePattern = Pattern.compile("examples?");
+    private int cacheSize = 1024;
+    private Map<String, Integer> verdicts = newCache(cacheSize);
+    // Events arrive grouped by file, so the verdict for the last file is kept around to skip the cache lookup.
+    private volatile Verdict lastVerdict;
 
     public void setPattern(String pattern) {
         this.pattern = Pattern.compile(pattern);
+        clearCache();
     }
 
     public void setExamplePattern(String pattern) {
         examplePattern = Pattern.compile(pattern);
+        clearCache();
+    }
+
+    /**
+     * Sets the maximal number of file names for which the verdict is cached.
+     */
+    public void setCacheSize(int cacheSize) {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("cacheSize: " + cacheSize + " (expected: > 0)");
+        }
+        this.cacheSize = cacheSize;
+        clearCache();
     }
 
     @Override
     public boolean accept(AuditEvent evt) {
-        String filename = evt.getFileName().replace('\\', '/');
-        if (JAVA5PATTERN.matcher(filename).find()) {
+        int verdict = verdict(evt.getFileName());
+        if ((verdict & SUPPRESS_ALL) != 0) {
+            return false;
+        }
+        if ((verdict & SUPPRESS_MISSING_OVERRIDE) != 0) {
             if (evt.getSourceName().endsWith("MissingOverrideCheck")) {
                 return false;
             }
         }
-
-        if (pattern.matcher(filename).find()) {
-            return false;
-        }
-        if (examplePattern.matcher(filename).find()) {
+        if ((verdict & SUPPRESS_EXAMPLE) != 0) {
             if (evt.getSourceName().endsWith(".JavadocPackageCheck")) {
                 return false;
             }
@@ -59,8 +86,68 @@ public class SuppressionFilter extends AutomaticBean implements Filter {
         return true;
     }
 
+    private int verdict(String fileName) {
+        Verdict last = lastVerdict;
+        if (last != null && last.fileName.equals(fileName)) {
+            return last.verdict;
+        }
+        Integer verdict;
+        synchronized (verdicts) {
+            verdict = verdicts.get(fileName);
+        }
+        if (verdict == null) {
+            verdict = computeVerdict(fileName);
+            synchronized (verdicts) {
+                verdicts.put(fileName, verdict);
+            }
+        }
+        lastVerdict = new Verdict(fileName, verdict);
+        return verdict;
+    }
+
+    private int computeVerdict(String fileName) {
+        String filename = fileName.replace('\\', '/');
+        if (pattern != null && pattern.matcher(filename).find()) {
+            return SUPPRESS_ALL;
+        }
+        int verdict = 0;
+        if (JAVA5PATTERN.matcher(filename).find()) {
+            verdict |= SUPPRESS_MISSING_OVERRIDE;
+        }
+        if (examplePattern.matcher(filename).find()) {
+            verdict |= SUPPRESS_EXAMPLE;
+        }
+        return verdict;
+    }
+
+    private void clearCache() {
+        verdicts = newCache(cacheSize);
+        lastVerdict = null;
+    }
+
+    private static Map<String, Integer> newCache(final int cacheSize) {
+        return new LinkedHashMap<String, Integer>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
     @Override
     protected void finishLocalSetup() {
         // NOOP.
     }
+
+    private static final class Verdict {
+        final String fileName;
+        final int verdict;
+
+        Verdict(String fileName, int verdict) {
+            this.fileName = fileName;
+            this.verdict = verdict;
+        }
+    }
 }
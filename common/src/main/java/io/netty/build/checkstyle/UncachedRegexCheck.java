@@ -0,0 +1,313 @@
+/*
+ * Copyright 2021 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.netty.build.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FullIdent;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * This check reports regular expressions given as string literals which are compiled again on every execution:
+ * {@code Pattern.compile(...)} and {@code Pattern.matches(...)} as well as {@code String.split(...)},
+ * {@code String.matches(...)}, {@code String.replaceAll(...)} and {@code String.replaceFirst(...)}.
+ *
+ * Calls in the initializer of a {@code static final} field or in a {@code static {}} block run only once and are
+ * not reported. Neither are {@code split} calls with a pattern that {@link String#split(String)} handles without
+ * compiling it, like a single character that is not a regex meta character or an escaped one like {@code "\\."}.
+ * Regular expressions which are not literals can usually not be moved to a constant and are not reported either.
+ * As there is no type information, the {@code String} methods are only reported on string literals and on variables,
+ * parameters and fields declared as {@code String} in the same file, if no other declaration has the same name.
+ *
+ * The check is not part of {@code io/netty/checkstyle.xml}, as most of these calls are not on a hot path. Projects
+ * add it to their own configuration where it matters.
+ */
+public class UncachedRegexCheck extends AbstractCheck {
+
+    private static final String PATTERN_MESSAGE =
+            "Pattern.{0}() compiles the regex on every call, use a static final Pattern instead";
+    private static final String STRING_MESSAGE =
+            "String.{0}() compiles the regex on every call, use a static final Pattern instead";
+
+    // Characters which String.split(String) can not take the fast path for if used alone.
+    private static final String SPLIT_META_CHARACTERS = ".$|()[{^?*+\\";
+
+    // The names of the variables, parameters and fields of the current file declared as String or as another type.
+    private final Set<String> stringNames = new HashSet<String>();
+    private final Set<String> otherNames = new HashSet<String>();
+
+    @Override
+    public int[] getRequiredTokens() {
+        return new int[] { TokenTypes.METHOD_CALL };
+    }
+
+    @Override
+    public int[] getDefaultTokens() {
+        return getRequiredTokens();
+    }
+
+    @Override
+    public int[] getAcceptableTokens() {
+        return getRequiredTokens();
+    }
+
+    @Override
+    public void beginTree(DetailAST rootAST) {
+        stringNames.clear();
+        otherNames.clear();
+        for (DetailAST ast = rootAST; ast != null; ast = ast.getNextSibling()) {
+            collectNames(ast);
+        }
+    }
+
+    @Override
+    public void visitToken(DetailAST ast) {
+        DetailAST dot = ast.getFirstChild();
+        if (dot.getType() != TokenTypes.DOT) {
+            return;
+        }
+        String method = dot.getLastChild().getText();
+        DetailAST elist = ast.findFirstToken(TokenTypes.ELIST);
+        int arguments = elist.getChildCount(TokenTypes.EXPR);
+        String regex = arguments == 0 ? null : literal(elist.getFirstChild().getFirstChild());
+        if (regex == null) {
+            return;
+        }
+
+        String message;
+        if (isPattern(dot.getFirstChild())) {
+            if (!("compile".equals(method) && arguments <= 2 || "matches".equals(method) && arguments == 2)) {
+                return;
+            }
+            message = PATTERN_MESSAGE;
+        } else if (isString(dot.getFirstChild())) {
+            if ("split".equals(method)) {
+                if (arguments > 2 || isSplitFastPath(regex)) {
+                    return;
+                }
+            } else if ("matches".equals(method)) {
+                if (arguments != 1) {
+                    return;
+                }
+            } else if ("replaceAll".equals(method) || "replaceFirst".equals(method)) {
+                if (arguments != 2) {
+                    return;
+                }
+            } else {
+                return;
+            }
+            message = STRING_MESSAGE;
+        } else {
+            return;
+        }
+        if (!isExecutedOnce(ast)) {
+            log(ast.getLineNo(), message, method);
+        }
+    }
+
+    // Matches Pattern and java.util.regex.Pattern
+    private static boolean isPattern(DetailAST ast) {
+        if (ast.getType() == TokenTypes.IDENT) {
+            return "Pattern".equals(ast.getText());
+        }
+        return ast.getType() == TokenTypes.DOT &&
+                "java.util.regex.Pattern".equals(FullIdent.createFullIdent(ast).getText());
+    }
+
+    // Matches string literals and names only declared as String, like "a,b", s or this.s
+    private boolean isString(DetailAST ast) {
+        switch (ast.getType()) {
+            case TokenTypes.STRING_LITERAL:
+            case TokenTypes.TEXT_BLOCK_LITERAL_BEGIN:
+                return true;
+            case TokenTypes.DOT:
+                return ast.getFirstChild().getType() == TokenTypes.LITERAL_THIS && isString(ast.getLastChild());
+            case TokenTypes.IDENT:
+                return stringNames.contains(ast.getText()) && !otherNames.contains(ast.getText());
+            default:
+                return false;
+        }
+    }
+
+    private void collectNames(DetailAST ast) {
+        int type = ast.getType();
+        if (type == TokenTypes.VARIABLE_DEF || type == TokenTypes.PARAMETER_DEF ||
+                type == TokenTypes.RECORD_COMPONENT_DEF) {
+            String name = ast.findFirstToken(TokenTypes.IDENT).getText();
+            if (isStringType(ast.findFirstToken(TokenTypes.TYPE))) {
+                stringNames.add(name);
+            } else {
+                otherNames.add(name);
+            }
+        }
+        for (DetailAST child = ast.getFirstChild(); child != null; child = child.getNextSibling()) {
+            collectNames(child);
+        }
+    }
+
+    // Matches String and java.lang.String, but not arrays
+    private static boolean isStringType(DetailAST type) {
+        DetailAST ast = type.getFirstChild();
+        if (ast == null || ast.getNextSibling() != null) {
+            return false;
+        }
+        if (ast.getType() == TokenTypes.IDENT) {
+            return "String".equals(ast.getText());
+        }
+        return ast.getType() == TokenTypes.DOT && "java.lang.String".equals(FullIdent.createFullIdent(ast).getText());
+    }
+
+    // Returns true if the call is part of a static final field initializer or a static initializer.
+    private static boolean isExecutedOnce(DetailAST ast) {
+        for (DetailAST parent = ast.getParent(); parent != null; parent = parent.getParent()) {
+            switch (parent.getType()) {
+                case TokenTypes.STATIC_INIT:
+                    return true;
+                case TokenTypes.VARIABLE_DEF:
+                    if (parent.getParent().getType() == TokenTypes.OBJBLOCK) {
+                        return isStaticFinalField(parent);
+                    }
+                    break;
+                case TokenTypes.METHOD_DEF:
+                case TokenTypes.CTOR_DEF:
+                case TokenTypes.COMPACT_CTOR_DEF:
+                case TokenTypes.INSTANCE_INIT:
+                case TokenTypes.LAMBDA:
+                    return false;
+                default:
+                    break;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isStaticFinalField(DetailAST ast) {
+        int classType = ast.getParent().getParent().getType();
+        if (classType == TokenTypes.INTERFACE_DEF || classType == TokenTypes.ANNOTATION_DEF) {
+            // Implicitly static final.
+            return true;
+        }
+        DetailAST modifiers = ast.findFirstToken(TokenTypes.MODIFIERS);
+        return modifiers.findFirstToken(TokenTypes.LITERAL_STATIC) != null &&
+                modifiers.findFirstToken(TokenTypes.FINAL) != null;
+    }
+
+    // Mirrors the fast path of String.split(String, int) which does not compile a Pattern.
+    private static boolean isSplitFastPath(String regex) {
+        char ch;
+        if (regex.length() == 1) {
+            ch = regex.charAt(0);
+            if (SPLIT_META_CHARACTERS.indexOf(ch) != -1) {
+                return false;
+            }
+        } else if (regex.length() == 2 && regex.charAt(0) == '\\') {
+            ch = regex.charAt(1);
+            if (ch >= '0' && ch <= '9' || ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z') {
+                return false;
+            }
+        } else {
+            return false;
+        }
+        return ch < Character.MIN_HIGH_SURROGATE || ch > Character.MAX_LOW_SURROGATE;
+    }
+
+    /**
+     * Returns the value of a string literal or a concatenation of string literals, or {@code null} if the
+     * expression is something else.
+     */
+    private static String literal(DetailAST ast) {
+        if (ast.getType() == TokenTypes.STRING_LITERAL) {
+            return unescape(ast.getText());
+        }
+        if (ast.getType() == TokenTypes.PLUS) {
+            String left = literal(ast.getFirstChild());
+            String right = left == null ? null : literal(ast.getLastChild());
+            return right == null ? null : left + right;
+        }
+        return null;
+    }
+
+    private static String unescape(String text) {
+        // Strip the quotes.
+        String s = text.substring(1, text.length() - 1);
+        if (s.indexOf('\\') == -1) {
+            return s;
+        }
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c != '\\' || i + 1 == s.length()) {
+                sb.append(c);
+                continue;
+            }
+            c = s.charAt(++i);
+            switch (c) {
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 's':
+                    sb.append(' ');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 'u':
+                    while (i + 1 < s.length() && s.charAt(i + 1) == 'u') {
+                        i++;
+                    }
+                    if (i + 4 >= s.length()) {
+                        return null;
+                    }
+                    try {
+                        sb.append((char) Integer.parseInt(s.substring(i + 1, i + 5), 16));
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                    i += 4;
+                    break;
+                default:
+                    if (c >= '0' && c <= '7') {
+                        // Octal escape with up to three digits and a maximal value of \377.
+                        int end = i + 1;
+                        int max = c <= '3' ? i + 3 : i + 2;
+                        while (end < Math.min(max, s.length()) && s.charAt(end) >= '0' && s.charAt(end) <= '7') {
+                            end++;
+                        }
+                        sb.append((char) Integer.parseInt(s.substring(i, end), 8));
+                        i = end - 1;
+                    } else {
+                        // \\, \" and \'
+                        sb.append(c);
+                    }
+                    break;
+            }
+        }
+        return sb.toString();
+    }
+}
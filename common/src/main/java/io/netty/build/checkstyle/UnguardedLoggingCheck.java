@@ -0,0 +1,370 @@
+/*
+ * Copyright 2021 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.netty.build.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * This check reports {@code debug} and {@code trace} logging calls whose arguments are built eagerly by string
+ * concatenation or by calls like {@code String.format(...)}, {@code toString()} or {@code ByteBufUtil.hexDump(...)}.
+ * These allocate even if the level is disabled, the message should use {@code {}} placeholders instead.
+ *
+ * Calls which only run if a guard holds are not reported. A guard is an {@code is<Level>Enabled()} call on a logger
+ * or a boolean variable or field assigned from one, and its level must be at least as fine as the one of the call:
+ * {@code logger.isTraceEnabled()} guards {@code debug} and {@code trace} calls, {@code logger.isDebugEnabled()} only
+ * {@code debug} calls. Guarded are calls in the then branch of {@code if (logger.isDebugEnabled())}, in the else
+ * branch of {@code if (!logger.isDebugEnabled())} and after {@code if (!logger.isTraceEnabled()) return;} in the same
+ * block. Conditions may combine guards with {@code !}, {@code &&} and {@code ||}.
+ * A guard outside of a lambda does not count, as the lambda may run later. Lambdas and anonymous classes passed as
+ * arguments are evaluated lazily and are not checked.
+ */
+public class UnguardedLoggingCheck extends AbstractCheck {
+
+    private static final String MESSAGE =
+            "{0}() message is built even if {0} is disabled, use '{}' placeholders or an is...Enabled() guard";
+
+    // From the finest to the coarsest level.
+    private static final String[] LEVELS = { "trace", "debug", "info", "warn", "error" };
+    private static final String[] GUARDS =
+            { "isTraceEnabled", "isDebugEnabled", "isInfoEnabled", "isWarnEnabled", "isErrorEnabled" };
+
+    private Pattern loggerPattern = Pattern.compile("(?i)log|.*logger");
+    private Set<String> methods = new HashSet<String>(Arrays.asList("trace", "debug"));
+    private Set<String> expensiveMethods =
+            new HashSet<String>(Arrays.asList("format", "toString", "hexDump", "prettyHexDump"));
+    // The level of the guard assigned to each boolean variable or field of the current file.
+    private final Map<String, Integer> guardVariables = new HashMap<String, Integer>();
+
+    /**
+     * Sets the pattern which the name of a logger variable or field must match.
+     */
+    public void setLoggerPattern(Pattern loggerPattern) {
+        this.loggerPattern = loggerPattern;
+    }
+
+    /**
+     * Sets the logging methods to check.
+     */
+    public void setMethods(String... methods) {
+        this.methods = new HashSet<String>(Arrays.asList(methods));
+    }
+
+    /**
+     * Sets the names of the methods whose calls in logging arguments are reported.
+     */
+    public void setExpensiveMethods(String... expensiveMethods) {
+        this.expensiveMethods = new HashSet<String>(Arrays.asList(expensiveMethods));
+    }
+
+    @Override
+    public int[] getRequiredTokens() {
+        return new int[] { TokenTypes.METHOD_CALL };
+    }
+
+    @Override
+    public int[] getDefaultTokens() {
+        return getRequiredTokens();
+    }
+
+    @Override
+    public int[] getAcceptableTokens() {
+        return getRequiredTokens();
+    }
+
+    @Override
+    public void beginTree(DetailAST rootAST) {
+        guardVariables.clear();
+        for (DetailAST ast = rootAST; ast != null; ast = ast.getNextSibling()) {
+            collectGuardVariables(ast);
+        }
+    }
+
+    @Override
+    public void visitToken(DetailAST ast) {
+        DetailAST dot = ast.getFirstChild();
+        if (dot.getType() != TokenTypes.DOT) {
+            return;
+        }
+        String method = dot.getLastChild().getText();
+        DetailAST logger = dot.getFirstChild();
+        if (!methods.contains(method) || logger.getType() != TokenTypes.IDENT ||
+                !loggerPattern.matcher(logger.getText()).matches()) {
+            return;
+        }
+        for (DetailAST arg = ast.findFirstToken(TokenTypes.ELIST).getFirstChild(); arg != null;
+             arg = arg.getNextSibling()) {
+            if (arg.getType() == TokenTypes.EXPR && isExpensive(arg.getFirstChild())) {
+                if (!isGuarded(ast, level(method))) {
+                    log(ast.getLineNo(), MESSAGE, method);
+                }
+                return;
+            }
+        }
+    }
+
+    private boolean isExpensive(DetailAST ast) {
+        switch (ast.getType()) {
+            case TokenTypes.LAMBDA:
+            case TokenTypes.OBJBLOCK:
+                // Evaluated lazily.
+                return false;
+            case TokenTypes.PLUS:
+                if (isConstant(ast)) {
+                    // Folded by the compiler.
+                    return false;
+                }
+                if (containsStringLiteral(ast)) {
+                    return true;
+                }
+                break;
+            case TokenTypes.METHOD_CALL:
+                DetailAST name = ast.getFirstChild();
+                if (name.getType() == TokenTypes.DOT) {
+                    name = name.getLastChild();
+                }
+                if (name.getType() == TokenTypes.IDENT && expensiveMethods.contains(name.getText())) {
+                    return true;
+                }
+                break;
+            default:
+                break;
+        }
+        for (DetailAST child = ast.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (isExpensive(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isConstant(DetailAST ast) {
+        switch (ast.getType()) {
+            case TokenTypes.STRING_LITERAL:
+            case TokenTypes.CHAR_LITERAL:
+            case TokenTypes.NUM_INT:
+            case TokenTypes.NUM_LONG:
+                return true;
+            case TokenTypes.PLUS:
+                return isConstant(ast.getFirstChild()) && isConstant(ast.getLastChild());
+            default:
+                return false;
+        }
+    }
+
+    // A + with a string literal operand is a string concatenation.
+    private static boolean containsStringLiteral(DetailAST ast) {
+        for (DetailAST child = ast.getFirstChild(); child != null; child = child.getNextSibling()) {
+            int type = child.getType();
+            if (type == TokenTypes.STRING_LITERAL || type == TokenTypes.TEXT_BLOCK_LITERAL_BEGIN ||
+                    type == TokenTypes.PLUS && containsStringLiteral(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isGuarded(DetailAST ast, int level) {
+        DetailAST child = ast;
+        for (DetailAST parent = ast.getParent(); parent != null; child = parent, parent = parent.getParent()) {
+            switch (parent.getType()) {
+                case TokenTypes.LITERAL_IF:
+                    DetailAST condition = parent.findFirstToken(TokenTypes.EXPR);
+                    if (child == thenStatement(parent) && enabledIfTrue(condition, level) ||
+                            child.getType() == TokenTypes.LITERAL_ELSE && enabledIfFalse(condition, level)) {
+                        return true;
+                    }
+                    break;
+                case TokenTypes.SLIST:
+                    for (DetailAST previous = child.getPreviousSibling(); previous != null;
+                         previous = previous.getPreviousSibling()) {
+                        if (previous.getType() == TokenTypes.LITERAL_IF &&
+                                enabledIfFalse(previous.findFirstToken(TokenTypes.EXPR), level) && exits(previous)) {
+                            return true;
+                        }
+                    }
+                    break;
+                case TokenTypes.METHOD_DEF:
+                case TokenTypes.CTOR_DEF:
+                case TokenTypes.LAMBDA:
+                case TokenTypes.OBJBLOCK:
+                    return false;
+                default:
+                    break;
+            }
+        }
+        return false;
+    }
+
+    private static DetailAST thenStatement(DetailAST ifAST) {
+        return ifAST.findFirstToken(TokenTypes.RPAREN).getNextSibling();
+    }
+
+    // Returns true if the level is enabled whenever the condition is true, like for debug && a or !(!debug || a).
+    private boolean enabledIfTrue(DetailAST ast, int level) {
+        switch (ast.getType()) {
+            case TokenTypes.EXPR:
+                return enabledIfTrue(operand(ast, 0), level);
+            case TokenTypes.LNOT:
+                return enabledIfFalse(operand(ast, 0), level);
+            case TokenTypes.LAND:
+                return enabledIfTrue(operand(ast, 0), level) || enabledIfTrue(operand(ast, 1), level);
+            case TokenTypes.LOR:
+                return enabledIfTrue(operand(ast, 0), level) && enabledIfTrue(operand(ast, 1), level);
+            default:
+                int guard = guardLevel(ast);
+                return guard >= 0 && guard <= level;
+        }
+    }
+
+    // Returns true if the level is enabled whenever the condition is false, like for !debug || a.
+    private boolean enabledIfFalse(DetailAST ast, int level) {
+        switch (ast.getType()) {
+            case TokenTypes.EXPR:
+                return enabledIfFalse(operand(ast, 0), level);
+            case TokenTypes.LNOT:
+                return enabledIfTrue(operand(ast, 0), level);
+            case TokenTypes.LAND:
+                return enabledIfFalse(operand(ast, 0), level) && enabledIfFalse(operand(ast, 1), level);
+            case TokenTypes.LOR:
+                return enabledIfFalse(operand(ast, 0), level) || enabledIfFalse(operand(ast, 1), level);
+            default:
+                return false;
+        }
+    }
+
+    // Returns the operand with the given index, skipping parentheses.
+    private static DetailAST operand(DetailAST ast, int index) {
+        for (DetailAST child = ast.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getType() != TokenTypes.LPAREN && child.getType() != TokenTypes.RPAREN && index-- == 0) {
+                return child;
+            }
+        }
+        throw new IllegalStateException(ast.toString());
+    }
+
+    // Returns the level of a guard like logger.isDebugEnabled(), debugEnabled or this.debugEnabled, or -1.
+    private int guardLevel(DetailAST ast) {
+        switch (ast.getType()) {
+            case TokenTypes.METHOD_CALL:
+                DetailAST dot = ast.getFirstChild();
+                if (dot.getType() != TokenTypes.DOT || !isLogger(dot.getFirstChild())) {
+                    return -1;
+                }
+                return indexOf(GUARDS, dot.getLastChild().getText());
+            case TokenTypes.IDENT:
+                return variableLevel(ast.getText());
+            case TokenTypes.DOT:
+                return ast.getFirstChild().getType() == TokenTypes.LITERAL_THIS ?
+                        variableLevel(ast.getLastChild().getText()) : -1;
+            default:
+                return -1;
+        }
+    }
+
+    private int variableLevel(String name) {
+        Integer level = guardVariables.get(name);
+        return level == null ? -1 : level;
+    }
+
+    // A logger variable or field like logger or this.logger
+    private boolean isLogger(DetailAST ast) {
+        if (ast.getType() == TokenTypes.DOT && ast.getFirstChild().getType() == TokenTypes.LITERAL_THIS) {
+            ast = ast.getLastChild();
+        }
+        return ast.getType() == TokenTypes.IDENT && loggerPattern.matcher(ast.getText()).matches();
+    }
+
+    // Finds the variables and fields like boolean debugEnabled = logger.isDebugEnabled() or assigned from a guard
+    // later on. If one is assigned guards of different levels the coarsest one is used.
+    private void collectGuardVariables(DetailAST ast) {
+        DetailAST name = null;
+        DetailAST value = null;
+        if (ast.getType() == TokenTypes.VARIABLE_DEF) {
+            DetailAST assign = ast.findFirstToken(TokenTypes.ASSIGN);
+            if (assign != null && assign.getFirstChild().getType() == TokenTypes.EXPR) {
+                name = ast.findFirstToken(TokenTypes.IDENT);
+                value = assign.getFirstChild().getFirstChild();
+            }
+        } else if (ast.getType() == TokenTypes.ASSIGN && ast.getParent().getType() == TokenTypes.EXPR) {
+            name = ast.getFirstChild();
+            if (name.getType() == TokenTypes.DOT && name.getFirstChild().getType() == TokenTypes.LITERAL_THIS) {
+                name = name.getLastChild();
+            }
+            value = ast.getLastChild();
+        }
+        if (name != null && name.getType() == TokenTypes.IDENT && value.getType() == TokenTypes.METHOD_CALL) {
+            int level = guardLevel(value);
+            if (level >= 0) {
+                Integer previous = guardVariables.put(name.getText(), level);
+                if (previous != null && previous > level) {
+                    guardVariables.put(name.getText(), previous);
+                }
+            }
+        }
+        for (DetailAST child = ast.getFirstChild(); child != null; child = child.getNextSibling()) {
+            collectGuardVariables(child);
+        }
+    }
+
+    // Returns the level of a logging method, methods which are not a level are only guarded by isErrorEnabled().
+    private static int level(String method) {
+        int level = indexOf(LEVELS, method);
+        return level < 0 ? LEVELS.length - 1 : level;
+    }
+
+    private static int indexOf(String[] names, String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Returns true if the then branch of the if always leaves the block, like if (!debug) { return; }
+    private static boolean exits(DetailAST ifAST) {
+        DetailAST statement = thenStatement(ifAST);
+        if (statement.getType() == TokenTypes.SLIST) {
+            DetailAST last = statement.getLastChild();
+            if (last.getType() == TokenTypes.RCURLY) {
+                last = last.getPreviousSibling();
+            }
+            statement = last;
+        }
+        if (statement == null) {
+            return false;
+        }
+        switch (statement.getType()) {
+            case TokenTypes.LITERAL_RETURN:
+            case TokenTypes.LITERAL_THROW:
+            case TokenTypes.LITERAL_CONTINUE:
+            case TokenTypes.LITERAL_BREAK:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
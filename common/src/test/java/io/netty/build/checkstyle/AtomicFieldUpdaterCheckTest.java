@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.checkstyle;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static io.netty.build.checkstyle.CheckTester.module;
+import static io.netty.build.checkstyle.CheckTester.violations;
+import static io.netty.build.checkstyle.CheckTester.write;
+import static org.junit.Assert.assertEquals;
+
+public class AtomicFieldUpdaterCheckTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testInstanceFields() throws Exception {
+        File file = write(folder.newFile("A.java"), "class FooHandler {\n" +
+                "    private final AtomicInteger a = new AtomicInteger();\n" +
+                "    volatile java.util.concurrent.atomic.AtomicLong b;\n" +
+                "    final AtomicReference<String> c = new AtomicReference<String>();\n" +
+                "    final AtomicBoolean d = new AtomicBoolean();\n" +
+                "    static final AtomicInteger E = new AtomicInteger();\n" +
+                "    final AtomicInteger[] f = new AtomicInteger[1];\n" +
+                "    final AtomicIntegerArray g = new AtomicIntegerArray(1);\n" +
+                "    void h() {\n" +
+                "        AtomicInteger h = new AtomicInteger();\n" +
+                "    }\n" +
+                "    static final class PooledBuf {\n" +
+                "        final AtomicLong i = new AtomicLong();\n" +
+                "    }\n" +
+                "    static final class Util {\n" +
+                "        final AtomicLong j = new AtomicLong();\n" +
+                "    }\n" +
+                "    final Object k = new Object() {\n" +
+                "        final AtomicLong k = new AtomicLong();\n" +
+                "    };\n" +
+                "}\n");
+        assertEquals(Arrays.asList(
+                "2:5: " + instanceField("AtomicInteger", "a", "AtomicIntegerFieldUpdater"),
+                "3:5: " + instanceField("AtomicLong", "b", "AtomicLongFieldUpdater"),
+                "4:5: " + instanceField("AtomicReference", "c", "AtomicReferenceFieldUpdater"),
+                "5:5: " + instanceField("AtomicBoolean", "d", "AtomicIntegerFieldUpdater"),
+                "13:9: " + instanceField("AtomicLong", "i", "AtomicLongFieldUpdater")),
+                violations(module(AtomicFieldUpdaterCheck.class), file));
+    }
+
+    @Test
+    public void testClassPattern() throws Exception {
+        File file = write(folder.newFile("A.java"), "class AbstractChannel {\n" +
+                "    final AtomicInteger a = new AtomicInteger();\n" +
+                "}\n" +
+                "class ChannelHandlerContext {\n" +
+                "    final AtomicInteger b = new AtomicInteger();\n" +
+                "}\n" +
+                "class Pool {\n" +
+                "    final AtomicInteger c = new AtomicInteger();\n" +
+                "}\n");
+        assertEquals(Collections.singletonList(
+                "2:5: " + instanceField("AtomicInteger", "a", "AtomicIntegerFieldUpdater")),
+                violations(module(AtomicFieldUpdaterCheck.class), file));
+        assertEquals(Collections.singletonList(
+                "8:5: " + instanceField("AtomicInteger", "c", "AtomicIntegerFieldUpdater")),
+                violations(module(AtomicFieldUpdaterCheck.class, "classPattern", "Pool"), file));
+    }
+
+    @Test
+    public void testUpdaterFields() throws Exception {
+        File file = write(folder.newFile("A.java"), "class Util {\n" +
+                "    static final AtomicIntegerFieldUpdater<Util> A = null;\n" +
+                "    static AtomicLongFieldUpdater<Util> b;\n" +
+                "    final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<Util, String> c = null;\n" +
+                "    interface D {\n" +
+                "        AtomicIntegerFieldUpdater<D> D = null;\n" +
+                "    }\n" +
+                "}\n");
+        assertEquals(Arrays.asList(
+                "3:5: AtomicLongFieldUpdater field b must be static final",
+                "4:5: AtomicReferenceFieldUpdater field c must be static final"),
+                violations(module(AtomicFieldUpdaterCheck.class), file));
+    }
+
+    private static String instanceField(String type, String name, String updater) {
+        return type + " instance field " + name + ", use a volatile field and a static final " + updater;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.checkstyle;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static io.netty.build.checkstyle.CheckTester.module;
+import static io.netty.build.checkstyle.CheckTester.violations;
+import static io.netty.build.checkstyle.CheckTester.write;
+import static org.junit.Assert.assertEquals;
+
+public class BoxedCollectionCheckTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReported() throws Exception {
+        File file = write(folder.newFile("A.java"), "class A {\n" +
+                "    final Map<Integer, String> a = null;\n" +
+                "    final java.util.Map<java.lang.Long, String> b = new HashMap<>();\n" +
+                "    final Map<Double, String> c = null;\n" +
+                "    final Set<Character> d = null;\n" +
+                "    final ArrayDeque<Short> e = null;\n" +
+                "    void f(Object o) {\n" +
+                "        o = new ArrayList<Byte>();\n" +
+                "        Object g = new java.util.concurrent.ConcurrentHashMap<Integer, String>();\n" +
+                "    }\n" +
+                "}\n");
+        assertEquals(Arrays.asList(
+                "2:11: Map with boxed Integer keys, use io.netty.util.collection.IntObjectHashMap instead",
+                "3:20: Map with boxed Long keys, use io.netty.util.collection.LongObjectHashMap instead",
+                "4:11: Map with boxed Double keys, use a map with primitive keys instead",
+                "5:11: Set with boxed Character elements, use a primitive array or collection instead",
+                "6:11: ArrayDeque with boxed Short elements, use a primitive array or collection instead",
+                "8:13: ArrayList with boxed Byte elements, use a primitive array or collection instead",
+                "9:20: ConcurrentHashMap with boxed Integer keys, " +
+                        "use io.netty.util.collection.IntObjectHashMap instead"),
+                violations(module(BoxedCollectionCheck.class), file));
+    }
+
+    @Test
+    public void testTypeArguments() throws Exception {
+        File file = write(folder.newFile("A.java"), "class A {\n" +
+                "    final Map<String, Integer> a = null;\n" +
+                "    final List<? extends Integer> b = null;\n" +
+                "    final List<int[]> c = null;\n" +
+                "    final List<Integer[]> d = null;\n" +
+                "    final Map<String, List<Integer>> e = null;\n" +
+                "    final List<Boolean> f = null;\n" +
+                "    final List<String> g = null;\n" +
+                "    final List<Integer>[] h = null;\n" +
+                "    final Object i = new HashMap<>();\n" +
+                "    final Map<Integer, String> j = new HashMap<Integer, String>();\n" +
+                "}\n");
+        // The instantiation of a reported declaration is not reported again.
+        assertEquals(Collections.singletonList(
+                "11:11: Map with boxed Integer keys, use io.netty.util.collection.IntObjectHashMap instead"),
+                violations(module(BoxedCollectionCheck.class), file));
+    }
+
+    @Test
+    public void testIncludesAndExcludes() throws Exception {
+        File file = write(folder.newFile("A.java"), "class A {\n" +
+                "    final TreeMap<Integer, String> a = null;\n" +
+                "    final NavigableSet<Long> b = null;\n" +
+                "    final EnumMap<Integer, String> c = null;\n" +
+                "    final Optional<Integer> d = null;\n" +
+                "    final Foo<Integer> e = null;\n" +
+                "}\n");
+        assertEquals(Collections.<String>emptyList(), violations(module(BoxedCollectionCheck.class), file));
+        assertEquals(Arrays.asList(
+                "2:11: TreeMap with boxed Integer keys, use io.netty.util.collection.IntObjectHashMap instead",
+                "6:11: Foo with boxed Integer elements, use a primitive array or collection instead"),
+                violations(module(BoxedCollectionCheck.class, "includes", "TreeMap|Foo", "excludes", "Enum.*"),
+                        file));
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.ConfigurationLoader;
+import com.puppycrawl.tools.checkstyle.PropertiesExpander;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static io.netty.build.checkstyle.CheckTester.audit;
+import static io.netty.build.checkstyle.CheckTester.write;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CheckProfilerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testSameViolationsAsWithoutProfiler() throws Exception {
+        File[] files = files();
+        Configuration configuration = configuration();
+        List<String> expected = toString(audit(configuration, files));
+        assertTrue(expected.toString(), expected.size() >= 8);
+
+        CheckProfiler profiler = new CheckProfiler(getClass().getClassLoader());
+        Checker checker = new Checker();
+        checker.setModuleFactory(profiler);
+        checker.addListener(profiler.newListener());
+        List<String> actual = toString(audit(checker, profiler.instrument(configuration), files));
+        assertEquals(expected, actual);
+
+        List<CheckProfiler.Stats> fileStats = profiler.files();
+        assertEquals(2, fileStats.size());
+        for (CheckProfiler.Stats stats : fileStats) {
+            assertTrue(stats.name(), stats.nanos() > 0);
+        }
+
+        long violations = 0;
+        boolean treeWalkerCheck = false;
+        for (CheckProfiler.Stats stats : profiler.modules()) {
+            assertTrue(stats.name(), stats.calls() > 0);
+            violations += stats.violations();
+            if (stats.name().endsWith("UnguardedLoggingCheck")) {
+                treeWalkerCheck = true;
+                // Violations are counted before filtering, so the suppressed one is included.
+                assertEquals(2, stats.violations());
+            }
+        }
+        assertTrue(treeWalkerCheck);
+        assertTrue(violations > expected.size());
+
+        StringWriter json = new StringWriter();
+        profiler.writeJson(json);
+        String report = json.toString();
+        assertTrue(report, report.startsWith("{\n  \"files\": 2,\n"));
+        assertTrue(report, report.contains("{\"module\": \"io.netty.build.checkstyle.UnguardedLoggingCheck\""));
+        assertTrue(report, report.contains("{\"file\": "));
+        assertTrue(report, report.contains("A.java"));
+        assertTrue(report, report.contains("B.java"));
+        assertEquals(4, profiler.summary(1).size());
+    }
+
+    private File[] files() throws Exception {
+        File dir = folder.newFolder("p");
+        File a = write(new File(dir, "A.java"), "package p;\r\n" +
+                "\n" +
+                "class A {\n" +
+                "\tint a;   \n" +
+                "    void a(io.netty.util.internal.logging.InternalLogger logger, Object o) {\n" +
+                "        logger.debug(\"a \" + o);\n" +
+                "    }\n" +
+                "    @SuppressWarnings(\"UnguardedLogging\")\n" +
+                "    void b(io.netty.util.internal.logging.InternalLogger logger, Object o) {\n" +
+                "        logger.debug(\"b \" + o);\n" +
+                "    }\n" +
+                "}\n");
+        File b = write(new File(dir, "B.java"), "package p;\n" +
+                "\n" +
+                "class B {\n" +
+                "\n" +
+                "\n" +
+                "    int b = 1+2;\n" +
+                "}");
+        return new File[] { a, b };
+    }
+
+    private Configuration configuration() throws Exception {
+        return ConfigurationLoader.loadConfiguration(getClass().getClassLoader().getResource("io/netty/checkstyle.xml")
+                .toString(), new PropertiesExpander(new Properties()));
+    }
+
+    private static List<String> toString(List<AuditEvent> events) {
+        List<String> violations = new ArrayList<String>(events.size());
+        for (AuditEvent event : events) {
+            violations.add(event.getFileName() + ':' + event.getLine() + ':' + event.getColumn() + ':' +
+                    event.getSourceName() + ':' + event.getMessage());
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs checkstyle configurations over small input files for the tests of the checks.
+ */
+final class CheckTester {
+
+    private CheckTester() {
+    }
+
+    /**
+     * Returns the configuration of a module with the given name / value pairs as properties.
+     */
+    static DefaultConfiguration module(String name, String... properties) {
+        DefaultConfiguration config = new DefaultConfiguration(name);
+        for (int i = 0; i < properties.length; i += 2) {
+            config.addProperty(properties[i], properties[i + 1]);
+        }
+        return config;
+    }
+
+    static DefaultConfiguration module(Class<?> type, String... properties) {
+        return module(type.getName(), properties);
+    }
+
+    /**
+     * Returns the configuration of a {@link Checker} with the given file set checks, filters and a
+     * {@code TreeWalker} with the given checks.
+     */
+    static DefaultConfiguration checker(List<? extends Configuration> modules, List<? extends Configuration> checks) {
+        DefaultConfiguration checker = new DefaultConfiguration("Checker");
+        for (Configuration module : modules) {
+            checker.addChild(module);
+        }
+        if (!checks.isEmpty()) {
+            DefaultConfiguration treeWalker = new DefaultConfiguration("TreeWalker");
+            for (Configuration check : checks) {
+                treeWalker.addChild(check);
+            }
+            checker.addChild(treeWalker);
+        }
+        return checker;
+    }
+
+    /**
+     * Runs the given {@link Checker} configuration and returns all violations.
+     */
+    static List<AuditEvent> audit(Configuration config, File... files) throws Exception {
+        return audit(new Checker(), config, files);
+    }
+
+    /**
+     * Configures the given {@link Checker}, runs it and returns all violations.
+     */
+    static List<AuditEvent> audit(Checker checker, Configuration config, File... files) throws Exception {
+        final List<AuditEvent> events = new ArrayList<AuditEvent>();
+        checker.setModuleClassLoader(CheckTester.class.getClassLoader());
+        checker.setCharset("UTF-8");
+        checker.configure(config);
+        checker.addListener(new AuditListener() {
+            @Override
+            public void auditStarted(AuditEvent event) {
+            }
+
+            @Override
+            public void auditFinished(AuditEvent event) {
+            }
+
+            @Override
+            public void fileStarted(AuditEvent event) {
+            }
+
+            @Override
+            public void fileFinished(AuditEvent event) {
+            }
+
+            @Override
+            public void addError(AuditEvent event) {
+                events.add(event);
+            }
+
+            @Override
+            public void addException(AuditEvent event, Throwable throwable) {
+                throw new AssertionError(event.getFileName(), throwable);
+            }
+        });
+        try {
+            checker.process(Arrays.asList(files));
+        } finally {
+            checker.destroy();
+        }
+        return events;
+    }
+
+    /**
+     * Runs a single file set check and returns its violations as {@code line:column: message}.
+     */
+    static List<String> fileSetViolations(Configuration check, File... files) throws Exception {
+        return format(audit(checker(Arrays.asList(check), new ArrayList<Configuration>()), files));
+    }
+
+    /**
+     * Runs a single {@code TreeWalker} check and returns its violations as {@code line:column: message}.
+     */
+    static List<String> violations(Configuration check, File... files) throws Exception {
+        return format(audit(checker(new ArrayList<Configuration>(), Arrays.asList(check)), files));
+    }
+
+    static List<String> format(List<AuditEvent> events) {
+        List<String> violations = new ArrayList<String>(events.size());
+        for (AuditEvent event : events) {
+            violations.add(event.getLine() + ":" + event.getColumn() + ": " + event.getMessage());
+        }
+        return violations;
+    }
+
+    static File write(File file, String content) throws IOException {
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.checkstyle;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static io.netty.build.checkstyle.CheckTester.module;
+import static io.netty.build.checkstyle.CheckTester.violations;
+import static io.netty.build.checkstyle.CheckTester.write;
+import static org.junit.Assert.assertEquals;
+
+public class FastThreadLocalUsageCheckTest {
+
+    private static final String DECLARATION = "java.lang.ThreadLocal variable, use FastThreadLocal instead";
+    private static final String INSTANTIATION = "java.lang.ThreadLocal instantiation, use FastThreadLocal instead";
+    private static final String SUBCLASS = "java.lang.ThreadLocal subclass, use FastThreadLocal instead";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReported() throws Exception {
+        File file = write(folder.newFile("A.java"), "package io.netty.a;\n" +
+                "class A {\n" +
+                "    static final ThreadLocal<String> A = new ThreadLocal<String>();\n" +
+                "    static final java.lang.ThreadLocal<String> B = ThreadLocal.withInitial(null);\n" +
+                "    Object c = new ThreadLocal<String>();\n" +
+                "    Object d = java.lang.ThreadLocal.withInitial(null);\n" +
+                "    static class E extends ThreadLocal<String> {\n" +
+                "    }\n" +
+                "    // Parameters only pass an existing instance on.\n" +
+                "    void f(ThreadLocal<String> f) {\n" +
+                "    }\n" +
+                "}\n");
+        assertEquals(Arrays.asList(
+                "3:5: " + DECLARATION, "4:5: " + DECLARATION, "5:16: " + INSTANTIATION,
+                "6:49: " + INSTANTIATION, "7:20: " + SUBCLASS),
+                violations(module(FastThreadLocalUsageCheck.class), file));
+    }
+
+    @Test
+    public void testShadowedByImport() throws Exception {
+        File file = write(folder.newFile("A.java"), "package io.netty.a;\n" +
+                "import io.netty.b.ThreadLocal;\n" +
+                "class A {\n" +
+                "    static final ThreadLocal<String> A = new ThreadLocal<String>();\n" +
+                "    Object b = ThreadLocal.withInitial(null);\n" +
+                "    static class C extends ThreadLocal<String> {\n" +
+                "    }\n" +
+                "    static final java.lang.ThreadLocal<String> D = null;\n" +
+                "}\n");
+        assertEquals(Collections.singletonList("8:5: " + DECLARATION),
+                violations(module(FastThreadLocalUsageCheck.class), file));
+    }
+
+    @Test
+    public void testJavaLangImport() throws Exception {
+        File file = write(folder.newFile("A.java"), "package io.netty.a;\n" +
+                "import java.lang.ThreadLocal;\n" +
+                "class A {\n" +
+                "    static final ThreadLocal<String> A = null;\n" +
+                "}\n");
+        assertEquals(Collections.singletonList("4:5: " + DECLARATION),
+                violations(module(FastThreadLocalUsageCheck.class), file));
+    }
+
+    @Test
+    public void testAllowedPackages() throws Exception {
+        String source = "class A {\n" +
+                "    static final ThreadLocal<String> A = new ThreadLocal<String>();\n" +
+                "}\n";
+        File allowed = write(folder.newFile("A.java"), "package io.netty.util.concurrent;\n" + source);
+        File subPackage = write(folder.newFile("B.java"), "package io.netty.util.concurrent.a;\n" + source);
+        File notAllowed = write(folder.newFile("C.java"), "package io.netty.util.concurrentx;\n" + source);
+        assertEquals(Collections.singletonList("3:5: " + DECLARATION),
+                violations(module(FastThreadLocalUsageCheck.class, "allowedPackages", "io.netty.util.concurrent"),
+                        allowed, subPackage, notAllowed));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static io.netty.build.checkstyle.CheckTester.audit;
+import static io.netty.build.checkstyle.CheckTester.checker;
+import static io.netty.build.checkstyle.CheckTester.format;
+import static io.netty.build.checkstyle.CheckTester.module;
+import static io.netty.build.checkstyle.CheckTester.violations;
+import static io.netty.build.checkstyle.CheckTester.write;
+import static org.junit.Assert.assertEquals;
+
+public class HotPathAllocationCheckTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReported() throws Exception {
+        File file = write(folder.newFile("A.java"), "class A {\n" +
+                "    int count;\n" +
+                "    void write(Object msg, int n, String s, java.util.List<Object> list, Object[] array) {\n" +
+                "        Object a = new Object();\n" +
+                "        Runnable b = () -> System.out.println(msg);\n" +
+                "        Runnable c = () -> count++;\n" +
+                "        Runnable d = this::flush;\n" +
+                "        Runnable e = msg::notify;\n" +
+                "        String f = String.format(\"%d\", n);\n" +
+                "        sum(1, 2, 3);\n" +
+                "        String g = s + n;\n" +
+                "        s += \"x\";\n" +
+                "        Integer h = n;\n" +
+                "        for (Object o : list) {\n" +
+                "        }\n" +
+                "        for (Object o : array) {\n" +
+                "        }\n" +
+                "    }\n" +
+                "    void flush() {\n" +
+                "    }\n" +
+                "    static int sum(int... values) {\n" +
+                "        return 0;\n" +
+                "    }\n" +
+                "}\n");
+        assertEquals(Arrays.asList(
+                "4:20: " + message("new"),
+                "5:25: " + message("capturing lambda"),
+                "6:25: " + message("capturing lambda"),
+                "7:26: " + message("bound method reference"),
+                "8:25: " + message("bound method reference"),
+                "9:33: " + message("varargs call of format()"),
+                "10:12: " + message("varargs call of sum()"),
+                "11:22: " + message("string concatenation"),
+                "12:11: " + message("string concatenation"),
+                "13:21: " + message("autoboxing of n"),
+                "14:14: " + message("iterator of enhanced for loop over list")),
+                violations(module(HotPathAllocationCheck.class), file));
+    }
+
+    @Test
+    public void testNotReported() throws Exception {
+        File file = write(folder.newFile("A.java"), "class A {\n" +
+                "    void write(Object msg, int n, int[] values) {\n" +
+                "        if (msg == null) {\n" +
+                "            throw new NullPointerException(\"msg \" + n);\n" +
+                "        }\n" +
+                "        assert n > 0 : \"n: \" + n;\n" +
+                "        Runnable a = () -> System.out.println(\"a\");\n" +
+                "        java.util.function.Function<Object, String> b = Object::toString;\n" +
+                "        java.util.function.Supplier<Object> c = Object::new;\n" +
+                "        String d = \"a\" + \"b\" + 1;\n" +
+                "        sum(values);\n" +
+                "        int e = n + 1;\n" +
+                "    }\n" +
+                "    void other() {\n" +
+                "        Object a = new Object();\n" +
+                "    }\n" +
+                "    static int sum(int... values) {\n" +
+                "        return 0;\n" +
+                "    }\n" +
+                "}\n");
+        assertEquals(Collections.<String>emptyList(), violations(module(HotPathAllocationCheck.class), file));
+    }
+
+    @Test
+    public void testSuppressWarnings() throws Exception {
+        File file = write(folder.newFile("A.java"), "class A {\n" +
+                "    @SuppressWarnings(\"checkstyle:HotPathAllocation\")\n" +
+                "    void write(Object msg) {\n" +
+                "        Object a = new Object();\n" +
+                "    }\n" +
+                "    void decode(Object msg) {\n" +
+                "        @SuppressWarnings(\"checkstyle:HotPathAllocation\")\n" +
+                "        Object a = new Object();\n" +
+                "        Object b = new Object();\n" +
+                "    }\n" +
+                "}\n");
+        assertEquals(Collections.singletonList("9:20: " + message("decode", "new")),
+                format(audit(checker(Arrays.<Configuration>asList(module("SuppressWarningsFilter")),
+                        Arrays.asList(module(HotPathAllocationCheck.class), module("SuppressWarningsHolder"))),
+                        file)));
+    }
+
+    @Test
+    public void testImplicitlyTypedLambda() throws Exception {
+        File file = write(folder.newFile("A.java"), "class A {\n" +
+                "    void write(Object msg, int a, String s) {\n" +
+                "        java.util.function.BiFunction<Integer, Integer, Integer> f = (a, b) -> a + b;\n" +
+                "        java.util.function.Function<String, String> g = s -> s;\n" +
+                "        Runnable r = new Runnable() {\n" +
+                "            public void run() {\n" +
+                "                String a = \"\";\n" +
+                "            }\n" +
+                "        };\n" +
+                "        Integer h = a;\n" +
+                "    }\n" +
+                "}\n");
+        // The lambda parameter and the local of the anonymous class do not hide the int parameter a.
+        assertEquals(Arrays.asList(
+                "5:22: " + message("new anonymous class"),
+                "10:21: " + message("autoboxing of a")),
+                violations(module(HotPathAllocationCheck.class), file));
+    }
+
+    private static String message(String allocation) {
+        return message("write", allocation);
+    }
+
+    private static String message(String method, String allocation) {
+        return "allocation in hot path method " + method + "(): " + allocation;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.checkstyle;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static io.netty.build.checkstyle.CheckTester.fileSetViolations;
+import static io.netty.build.checkstyle.CheckTester.module;
+import static io.netty.build.checkstyle.CheckTester.write;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+public class NewlineCheckTest {
+
+    private static final String MESSAGE = "invalid newline character (expected: LF)";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void assumeLf() {
+        assumeTrue("\n".equals(System.lineSeparator()));
+    }
+
+    @Test
+    public void testLf() throws Exception {
+        assertViolations("class A {\n    int a;\n}\n", Collections.<String>emptyList());
+    }
+
+    @Test
+    public void testCrLf() throws Exception {
+        assertViolations("class A {\r\n    int a;\r\n}\r\n",
+                Arrays.asList("1:10: " + MESSAGE, "2:11: " + MESSAGE, "3:2: " + MESSAGE));
+    }
+
+    @Test
+    public void testLoneCr() throws Exception {
+        assertViolations("class A {\r    int a;\n}\r",
+                Arrays.asList("1:10: " + MESSAGE, "3:2: " + MESSAGE));
+    }
+
+    @Test
+    public void testMixed() throws Exception {
+        assertViolations("class A {\n    int a;\r\n\r\n    int b;\n}\n",
+                Arrays.asList("2:11: " + MESSAGE, "3:1: " + MESSAGE));
+    }
+
+    @Test
+    public void testMaxViolations() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 150; i++) {
+            sb.append("// ").append(i).append("\r\n");
+        }
+        File file = write(folder.newFile("A.java"), sb.toString());
+        List<String> violations = fileSetViolations(module(NewlineCheck.class), file);
+        assertEquals(100, violations.size());
+        assertEquals("100:6: " + MESSAGE, violations.get(99));
+        assertEquals(150, fileSetViolations(module(NewlineCheck.class, "maxViolations", "200"), file).size());
+    }
+
+    private void assertViolations(String content, List<String> expected) throws Exception {
+        File file = write(folder.newFile("A.java"), content);
+        assertEquals(expected, fileSetViolations(module(NewlineCheck.class), file));
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static io.netty.build.checkstyle.CheckTester.audit;
+import static io.netty.build.checkstyle.CheckTester.checker;
+import static io.netty.build.checkstyle.CheckTester.module;
+import static io.netty.build.checkstyle.CheckTester.write;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class SourceTextCheckTest {
+
+    private static final String COPYRIGHT = "/*\n * Copyright 2026 The Netty Project\n */\n";
+
+    private static final String[] FIXTURES = {
+            COPYRIGHT + "class A {\n    int a;\n}\n",
+            "class A {\n}\n",
+            COPYRIGHT + "// Copyright 2012 The Netty Project\nclass A {\n}\n",
+            COPYRIGHT + "class A {\n\tint a;\n    int b;\t\n\t\tint c;\n}\n",
+            COPYRIGHT + "/**\n * @author someone\n * @Version 1\n * (non-javadoc)\n */\nclass A {\n}\n",
+            COPYRIGHT + "// File | Settings | File Templates\nclass A {\n}\n",
+            COPYRIGHT + "class A { \n    int a;  \n}\n",
+            COPYRIGHT + "package a;\n\n\n\nimport b;\n\n\n\nclass A {\n    int a;\n\n\n\n    int b;\n}\n",
+            COPYRIGHT + "class A {\n    void a() {\n\n        int a;\n\n    }\n\n" +
+                    "    void b() {\n        int b;\n    }\n}\n",
+            COPYRIGHT + "class A {\n    int a;\n\n  \n\t}\n}\n",
+            COPYRIGHT + "class A {\r\n\tint a; \r\n\r\n\r\n\r\n    int b;\r\n}\r\n",
+            COPYRIGHT + "class A {\r    int a;\r\r}\r",
+            COPYRIGHT + "class A {\n}",
+            "",
+    };
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testSameViolationsAsReplacedModules() throws Exception {
+        assertSameViolations(Collections.<String>emptyList(), Collections.<String>emptyList());
+    }
+
+    @Test
+    public void testTabEachLineAndLineSeparator() throws Exception {
+        assertSameViolations(Arrays.asList("eachLine", "true", "lineSeparator", "lf"),
+                Arrays.asList("tabEachLine", "true", "lineSeparator", "lf"));
+    }
+
+    @Test
+    public void testChangedFormats() throws Exception {
+        assertSameViolations(Arrays.asList(
+                "copyright", "^// Copyright\\s+[0-9]+",
+                "javadocTag", "@since",
+                "ideComment", "Settings",
+                "trailingWhitespace", "[ ]+$",
+                "consecutiveEmptyLines", "\\n\\n\\n",
+                "emptyLineBeforeRightCurly", "\\n\\n\\s*\\}",
+                "emptyLineAfterLeftCurly", "\\{\\n\\n"), Collections.<String>emptyList());
+    }
+
+    @Test
+    public void testSuppressions() throws Exception {
+        File file = write(folder.newFile("A.java"), COPYRIGHT +
+                "@SuppressWarnings(\"checkstyle:filetabcharacter\")\nclass A {\n\tint a; \n}\n" +
+                "@SuppressWarnings(\"checkstyle:RegexpSingleline\")\nclass B {\n\tint a; \n}\n" +
+                "@SuppressWarnings(\"checkstyle:regexpmultiline\")\nclass C {\n\n    int a;\n}\n" +
+                "class D {\n\n    int a; \n}\n");
+        List<Configuration> filters = Arrays.<Configuration>asList(module("SuppressWarningsFilter"));
+        List<Configuration> holder = Arrays.<Configuration>asList(module("SuppressWarningsHolder"));
+        List<String> expected = format(audit(checker(concat(replacedModules(Collections.<String>emptyList()),
+                filters), holder), file));
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, format(audit(checker(concat(Arrays.asList(
+                module(SourceTextCheck.class)), filters), holder), file)));
+
+        filters = Arrays.<Configuration>asList(module("SuppressionSingleFilter",
+                "checks", "RegexpSingleline|FileTabCharacter"));
+        expected = format(audit(checker(concat(replacedModules(Collections.<String>emptyList()), filters),
+                Collections.<Configuration>emptyList()), file));
+        assertEquals(expected, format(audit(checker(concat(Arrays.asList(module(SourceTextCheck.class)), filters),
+                Collections.<Configuration>emptyList()), file)));
+    }
+
+    private void assertSameViolations(List<String> replacedProperties, List<String> properties)
+            throws Exception {
+        List<String> sourceTextProperties = new ArrayList<String>(properties);
+        for (int i = 0; i < replacedProperties.size(); i += 2) {
+            String name = replacedProperties.get(i);
+            if (!"eachLine".equals(name) && !"lineSeparator".equals(name)) {
+                sourceTextProperties.add(name + "Format");
+                sourceTextProperties.add(replacedProperties.get(i + 1));
+            }
+        }
+        DefaultConfiguration sourceText = module(SourceTextCheck.class,
+                sourceTextProperties.toArray(new String[0]));
+        for (int i = 0; i < FIXTURES.length; i++) {
+            File file = write(folder.newFile("A" + i + ".java"), FIXTURES[i]);
+            assertEquals(FIXTURES[i],
+                    format(audit(checker(replacedModules(replacedProperties),
+                            Collections.<Configuration>emptyList()), file)),
+                    format(audit(checker(Arrays.asList(sourceText), Collections.<Configuration>emptyList()),
+                            file)));
+        }
+    }
+
+    /**
+     * The modules of {@code io/netty/checkstyle.xml} that {@link SourceTextCheck} replaces. The formats can be
+     * changed with the rule name as key, {@code eachLine} and {@code lineSeparator} are passed to the modules with
+     * these properties.
+     */
+    private static List<Configuration> replacedModules(List<String> properties) {
+        List<Configuration> modules = new ArrayList<Configuration>();
+        modules.add(module("FileTabCharacter", property(properties, "eachLine", "false")));
+        modules.add(module("NewlineAtEndOfFile", property(properties, "lineSeparator", "lf_cr_crlf")));
+        modules.add(module("RegexpSingleline",
+                "format", value(properties, "copyright",
+                        "^(\\s|\\*|#)*Copyright\\s+[0-9]+\\s+The Netty Project\\s*$"),
+                "minimum", "1", "maximum", "1", "message", "missing copyright header"));
+        modules.add(module("RegexpSingleline",
+                "format", value(properties, "javadocTag", "(@(author|version)|\\(non-Javadoc\\))"),
+                "ignoreCase", "true",
+                "message", "unmaintainable Javadoc tags: @author, @version, or (non-Javadoc)"));
+        modules.add(module("RegexpSingleline",
+                "format", value(properties, "ideComment", "File \\| Settings \\| File Templates"),
+                "message", "IDE-generated comment"));
+        modules.add(module("RegexpSingleline",
+                "format", value(properties, "trailingWhitespace", "\\s+$"), "message", "trailing whitespace"));
+        modules.add(module("RegexpMultiline",
+                "format", value(properties, "consecutiveEmptyLines", "\\n *(?!package )(?!import )[^\\n]+\\n{3,}"),
+                "message", "two or more consecutive empty lines"));
+        modules.add(module("RegexpMultiline",
+                "format", value(properties, "emptyLineBeforeRightCurly", "\\n\\n\\s+\\}[^\\n]{0,10}\\n"),
+                "message", "an empty line before '}'"));
+        modules.add(module("RegexpMultiline",
+                "format", value(properties, "emptyLineAfterLeftCurly", "\\n\\s+[^\\n]{1,8}\\{\\n\\n"),
+                "message", "an empty line after a short line that ends with '{'"));
+        return modules;
+    }
+
+    private static String[] property(List<String> properties, String name, String defaultValue) {
+        return new String[] { name, value(properties, name, defaultValue) };
+    }
+
+    private static String value(List<String> properties, String name, String defaultValue) {
+        int index = properties.indexOf(name);
+        return index >= 0 && index % 2 == 0 ? properties.get(index + 1) : defaultValue;
+    }
+
+    private static List<Configuration> concat(List<? extends Configuration> a, List<? extends Configuration> b) {
+        List<Configuration> result = new ArrayList<Configuration>(a);
+        result.addAll(b);
+        return result;
+    }
+
+    /**
+     * Formats the violations with everything a suppression filter or report can see.
+     */
+    private static List<String> format(List<AuditEvent> events) {
+        List<String> violations = new ArrayList<String>(events.size());
+        for (AuditEvent event : events) {
+            violations.add(event.getLine() + ":" + event.getColumn() + ": " + event.getMessage() + " [" +
+                    event.getSourceName() + ", " + event.getModuleId() + ", " + event.getViolation().getKey() +
+                    ", " + event.getSeverityLevel() + "]");
+        }
+        return violations;
+    }
+}
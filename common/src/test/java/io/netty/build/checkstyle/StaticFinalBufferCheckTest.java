@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.checkstyle;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static io.netty.build.checkstyle.CheckTester.module;
+import static io.netty.build.checkstyle.CheckTester.violations;
+import static io.netty.build.checkstyle.CheckTester.write;
+import static org.junit.Assert.assertEquals;
+
+public class StaticFinalBufferCheckTest {
+
+    private static final String INVALID = "static final buffer assignment should match pattern " +
+            "(Unpooled\\s*\\.)?unreleasableBuffer\\(.*?\\)\\s*\\.asReadOnly\\(\\)";
+    private static final String MISSING = "Missing assignment for static final buffer";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testFieldInitializer() throws Exception {
+        File file = write(folder.newFile("A.java"), "class A {\n" +
+                "    static final ByteBuf VALID = Unpooled.unreleasableBuffer(Unpooled.buffer()).asReadOnly();\n" +
+                "    static final ByteBuf UNQUALIFIED = unreleasableBuffer(buffer(1)).asReadOnly();\n" +
+                "    static final io.netty.buffer.ByteBuf MULTI_LINE = Unpooled\n" +
+                "            .unreleasableBuffer(Unpooled.directBuffer(4).writeInt(1))\n" +
+                "            .asReadOnly();\n" +
+                "    static final ByteBuf NOT_READ_ONLY = Unpooled.unreleasableBuffer(Unpooled.buffer());\n" +
+                "    static final ByteBuf NOT_UNRELEASABLE = Unpooled.buffer().asReadOnly();\n" +
+                "    static final ByteBuf PLAIN = Unpooled.EMPTY_BUFFER;\n" +
+                "    static final ByteBuf BLANK;\n" +
+                "    static ByteBuf NOT_FINAL = Unpooled.buffer();\n" +
+                "    final ByteBuf notStatic = Unpooled.buffer();\n" +
+                "    static final ByteBuffer NIO = ByteBuffer.allocate(1);\n" +
+                "}\n");
+        assertEquals(Arrays.asList("7:0: " + INVALID, "8:0: " + INVALID, "9:0: " + INVALID, "10:0: " + MISSING),
+                violations(module(StaticFinalBufferCheck.class), file));
+    }
+
+    @Test
+    public void testStaticInitializer() throws Exception {
+        File file = write(folder.newFile("A.java"), "class A {\n" +
+                "    static final ByteBuf VALID;\n" +
+                "    static final ByteBuf QUALIFIED;\n" +
+                "    static final ByteBuf INVALID;\n" +
+                "    static final ByteBuf UNASSIGNED;\n" +
+                "    static {\n" +
+                "        VALID = Unpooled.unreleasableBuffer(Unpooled.buffer()).asReadOnly();\n" +
+                "        if (true) {\n" +
+                "            A.QUALIFIED = Unpooled.unreleasableBuffer(Unpooled.buffer()).asReadOnly();\n" +
+                "        }\n" +
+                "    }\n" +
+                "    static {\n" +
+                "        INVALID = Unpooled.buffer();\n" +
+                "    }\n" +
+                "}\n");
+        assertEquals(Arrays.asList("5:0: " + MISSING, "13:0: " + INVALID),
+                violations(module(StaticFinalBufferCheck.class), file));
+    }
+
+    @Test
+    public void testCommentsAndLineBreaks() throws Exception {
+        // The previous implementation joined the trimmed lines and failed on comments between the calls.
+        File file = write(folder.newFile("A.java"), "class A {\n" +
+                "    static final ByteBuf VALID = Unpooled.unreleasableBuffer(\n" +
+                "            Unpooled.buffer()) // read-only\n" +
+                "            .asReadOnly();\n" +
+                "}\n");
+        assertEquals(Collections.<String>emptyList(), violations(module(StaticFinalBufferCheck.class), file));
+    }
+
+    @Test
+    public void testArrayInitializer() throws Exception {
+        // The previous implementation accepted an array as soon as one of its elements matched.
+        File file = write(folder.newFile("A.java"), "class A {\n" +
+                "    static final ByteBuf[] VALID = {\n" +
+                "            Unpooled.unreleasableBuffer(Unpooled.buffer()).asReadOnly(),\n" +
+                "            Unpooled.unreleasableBuffer(Unpooled.directBuffer()).asReadOnly() };\n" +
+                "    static final ByteBuf[] INVALID = new ByteBuf[] {\n" +
+                "            Unpooled.unreleasableBuffer(Unpooled.buffer()).asReadOnly(),\n" +
+                "            Unpooled.buffer() };\n" +
+                "}\n");
+        assertEquals(Collections.singletonList("5:0: " + INVALID),
+                violations(module(StaticFinalBufferCheck.class), file));
+    }
+}
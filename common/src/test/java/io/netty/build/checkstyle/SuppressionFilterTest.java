@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+import com.puppycrawl.tools.checkstyle.checks.annotation.MissingOverrideCheck;
+import com.puppycrawl.tools.checkstyle.checks.coding.HiddenFieldCheck;
+import com.puppycrawl.tools.checkstyle.checks.design.HideUtilityClassConstructorCheck;
+import com.puppycrawl.tools.checkstyle.checks.javadoc.JavadocPackageCheck;
+import com.puppycrawl.tools.checkstyle.checks.whitespace.FileTabCharacterCheck;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SuppressionFilterTest {
+
+    private static final String MAIN = "/src/main/java/io/netty/Foo.java";
+    private static final String EXAMPLE = "/src/main/java/io/netty/example/Foo.java";
+    private static final String EXAMPLES = "/src/main/java/io/netty/examples/Foo.java";
+    private static final String JAVA5 = "/src/main/java/org/jboss/netty/Foo.java";
+    private static final String TEST = "/src/test/java/io/netty/FooTest.java";
+
+    @Test
+    public void testPattern() {
+        for (SuppressionFilter filter : filters("/src/test/")) {
+            assertSuppressed(filter, TEST, FileTabCharacterCheck.class);
+            assertSuppressed(filter, TEST, HiddenFieldCheck.class);
+            assertSuppressed(filter, "C:\\src\\test\\java\\io\\netty\\FooTest.java", HiddenFieldCheck.class);
+            assertAccepted(filter, MAIN, FileTabCharacterCheck.class);
+            assertAccepted(filter, "C:\\src\\main\\java\\io\\netty\\Foo.java", FileTabCharacterCheck.class);
+            assertAccepted(filter, "", FileTabCharacterCheck.class);
+        }
+    }
+
+    @Test
+    public void testBackreference() {
+        for (SuppressionFilter filter : filters("(a)\\1/")) {
+            assertSuppressed(filter, "/src/main/java/io/netty/aa/Foo.java", FileTabCharacterCheck.class);
+            assertAccepted(filter, "/src/main/java/io/netty/ab/Foo.java", FileTabCharacterCheck.class);
+        }
+    }
+
+    @Test
+    public void testNamedGroup() {
+        for (SuppressionFilter filter : filters("(?<suppressed>/ab/)")) {
+            assertSuppressed(filter, "/src/main/java/io/netty/ab/Foo.java", FileTabCharacterCheck.class);
+            assertAccepted(filter, "/src/main/java/io/netty/aa/Foo.java", FileTabCharacterCheck.class);
+        }
+        // Group names of the built-in patterns must not interfere.
+        for (SuppressionFilter filter : filters("(?<example>/aa/)")) {
+            assertSuppressed(filter, "/src/main/java/io/netty/aa/Foo.java", FileTabCharacterCheck.class);
+            assertAccepted(filter, MAIN, JavadocPackageCheck.class);
+            assertAccepted(filter, JAVA5, FileTabCharacterCheck.class);
+        }
+    }
+
+    @Test
+    public void testDotDoesNotMatchNewline() {
+        for (SuppressionFilter filter : filters("gen.erated")) {
+            assertSuppressed(filter, "/src/main/java/io/netty/gen_erated/Foo.java", FileTabCharacterCheck.class);
+            assertAccepted(filter, "/src/main/java/io/netty/gen\nerated/Foo.java", FileTabCharacterCheck.class);
+            assertAccepted(filter, "/src/main/java/io/netty/generated/Foo.java", FileTabCharacterCheck.class);
+        }
+        for (SuppressionFilter filter : filters("(?s)gen.erated")) {
+            assertSuppressed(filter, "/src/main/java/io/netty/gen\nerated/Foo.java", FileTabCharacterCheck.class);
+        }
+    }
+
+    @Test
+    public void testJava5() {
+        for (SuppressionFilter filter : filters("x^")) {
+            assertSuppressed(filter, JAVA5, MissingOverrideCheck.class);
+            assertSuppressed(filter, "C:\\src\\main\\java\\org\\jboss\\netty\\Foo.java",
+                    MissingOverrideCheck.class);
+            assertAccepted(filter, JAVA5, FileTabCharacterCheck.class);
+            assertAccepted(filter, JAVA5, JavadocPackageCheck.class);
+            assertAccepted(filter, MAIN, MissingOverrideCheck.class);
+        }
+    }
+
+    @Test
+    public void testExample() {
+        for (SuppressionFilter filter : filters("x^")) {
+            for (String fileName : new String[] { EXAMPLE, EXAMPLES }) {
+                assertSuppressed(filter, fileName, JavadocPackageCheck.class);
+                assertSuppressed(filter, fileName, HideUtilityClassConstructorCheck.class);
+                assertAccepted(filter, fileName, FileTabCharacterCheck.class);
+                assertAccepted(filter, fileName, MissingOverrideCheck.class);
+            }
+            assertAccepted(filter, MAIN, JavadocPackageCheck.class);
+            // Both built-in patterns apply to the same file.
+            assertSuppressed(filter, "/org/jboss/example/Foo.java", MissingOverrideCheck.class);
+            assertSuppressed(filter, "/org/jboss/example/Foo.java", JavadocPackageCheck.class);
+        }
+    }
+
+    @Test
+    public void testExamplePattern() {
+        for (SuppressionFilter filter : filters("x^")) {
+            filter.setExamplePattern("(e)xample\\1?/");
+            assertSuppressed(filter, EXAMPLE, JavadocPackageCheck.class);
+            assertSuppressed(filter, "/src/main/java/io/netty/examplee/Foo.java", JavadocPackageCheck.class);
+            assertAccepted(filter, EXAMPLES, JavadocPackageCheck.class);
+        }
+    }
+
+    @Test
+    public void testCacheEviction() {
+        for (SuppressionFilter filter : filters("/src/test/")) {
+            // Three files alternate, so small caches answer from evicted entries on the second round.
+            for (int i = 0; i < 2; i++) {
+                assertSuppressed(filter, TEST, FileTabCharacterCheck.class);
+                assertAccepted(filter, MAIN, FileTabCharacterCheck.class);
+                assertSuppressed(filter, EXAMPLE, JavadocPackageCheck.class);
+                assertAccepted(filter, EXAMPLE, FileTabCharacterCheck.class);
+                assertSuppressed(filter, TEST, JavadocPackageCheck.class);
+            }
+        }
+    }
+
+    @Test
+    public void testPatternChangeClearsCache() {
+        SuppressionFilter filter = new SuppressionFilter();
+        filter.setPattern("/generated/");
+        AuditEvent event = event("/src/main/java/io/netty/generated/Foo.java", FileTabCharacterCheck.class);
+        assertFalse(filter.accept(event));
+        filter.setPattern("/test/");
+        assertTrue(filter.accept(event));
+    }
+
+    @Test
+    public void testWithoutPattern() {
+        SuppressionFilter filter = new SuppressionFilter();
+        assertTrue(filter.accept(event("/src/main/java/io/netty/Foo.java", FileTabCharacterCheck.class)));
+        assertFalse(filter.accept(event("/src/main/java/io/netty/example/Foo.java", JavadocPackageCheck.class)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCacheSize() {
+        new SuppressionFilter().setCacheSize(0);
+    }
+
+    // A filter with the given pattern for each cache size, the verdicts must not depend on it.
+    private static List<SuppressionFilter> filters(String pattern) {
+        List<SuppressionFilter> filters = new ArrayList<SuppressionFilter>();
+        for (int cacheSize : new int[] { 1, 2, 1024 }) {
+            SuppressionFilter filter = new SuppressionFilter();
+            filter.setPattern(pattern);
+            filter.setCacheSize(cacheSize);
+            filters.add(filter);
+        }
+        return filters;
+    }
+
+    private static void assertSuppressed(SuppressionFilter filter, String fileName, Class<?> source) {
+        assertFalse(fileName + ", " + source.getSimpleName(), filter.accept(event(fileName, source)));
+    }
+
+    private static void assertAccepted(SuppressionFilter filter, String fileName, Class<?> source) {
+        assertTrue(fileName + ", " + source.getSimpleName(), filter.accept(event(fileName, source)));
+    }
+
+    private static AuditEvent event(String fileName, Class<?> source) {
+        return new AuditEvent(fileName, fileName, new Violation(1, 1, "messages", "key", null,
+                SeverityLevel.ERROR, null, source, "message"));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.checkstyle;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static io.netty.build.checkstyle.CheckTester.module;
+import static io.netty.build.checkstyle.CheckTester.violations;
+import static io.netty.build.checkstyle.CheckTester.write;
+import static org.junit.Assert.assertEquals;
+
+public class UncachedRegexCheckTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReported() throws Exception {
+        File file = write(folder.newFile("A.java"), "class A {\n" +
+                "    final java.util.regex.Pattern a = Pattern.compile(\"a+\");\n" +
+                "    static final java.util.function.Supplier<Object> B = () -> Pattern.compile(\"b+\");\n" +
+                "    void c(String s) {\n" +
+                "        java.util.regex.Pattern.compile(\"c+\", 0);\n" +
+                "        Pattern.matches(\"d+\", s);\n" +
+                "        s.split(\", *\");\n" +
+                "        s.split(\".\");\n" +
+                "        s.split(\"\\\\d\", 2);\n" +
+                "        s.matches(\"[a-z]+\");\n" +
+                "        s.replaceAll(\"\\\\s+\", \" \");\n" +
+                "        s.replaceFirst(\"^\" + \"x\", \"\");\n" +
+                "        \"a, b\".split(\", *\");\n" +
+                "        this.f.matches(\"[a-z]+\");\n" +
+                "    }\n" +
+                "    private java.lang.String f;\n" +
+                "}\n");
+        String pattern = "Pattern.%s() compiles the regex on every call, use a static final Pattern instead";
+        String string = "String.%s() compiles the regex on every call, use a static final Pattern instead";
+        assertEquals(Arrays.asList(
+                "2:0: " + String.format(pattern, "compile"), "3:0: " + String.format(pattern, "compile"),
+                "5:0: " + String.format(pattern, "compile"), "6:0: " + String.format(pattern, "matches"),
+                "7:0: " + String.format(string, "split"), "8:0: " + String.format(string, "split"),
+                "9:0: " + String.format(string, "split"), "10:0: " + String.format(string, "matches"),
+                "11:0: " + String.format(string, "replaceAll"), "12:0: " + String.format(string, "replaceFirst"),
+                "13:0: " + String.format(string, "split"), "14:0: " + String.format(string, "matches")),
+                violations(module(UncachedRegexCheck.class), file));
+    }
+
+    @Test
+    public void testExempted() throws Exception {
+        File file = write(folder.newFile("A.java"), "class A {\n" +
+                "    static final Pattern A = Pattern.compile(\"a+\");\n" +
+                "    static final String[] B = \"b,c\".split(\", *\");\n" +
+                "    static {\n" +
+                "        Pattern.compile(\"c+\");\n" +
+                "    }\n" +
+                "    interface D {\n" +
+                "        Pattern D = Pattern.compile(\"d+\");\n" +
+                "    }\n" +
+                "    void e(String s, String regex) {\n" +
+                "        s.split(\",\");\n" +
+                "        s.split(\"\\\\.\");\n" +
+                "        s.split(\"\\\\|\", 2);\n" +
+                "        Pattern.compile(regex);\n" +
+                "        s.matches(regex);\n" +
+                "        s.replace(\"a+\", \"b\");\n" +
+                "        s.matches(\"a+\", 1);\n" +
+                "        other.compile(\"a+\");\n" +
+                "    }\n" +
+                "    void f(java.util.regex.Matcher matcher, String[] array, Path path, Foo foo) {\n" +
+                "        Splitter.on(',').split(\"a, *b\");\n" +
+                "        matcher.replaceAll(\"a+\", \"b\");\n" +
+                "        array.matches(\"a+\");\n" +
+                "        path.matches(\"a+\");\n" +
+                "        foo.bar().split(\", *\");\n" +
+                "        s.split(\", *\");\n" +
+                "    }\n" +
+                "    void g(java.util.List<String> s) {\n" +
+                "    }\n" +
+                "}\n");
+        assertEquals(Collections.<String>emptyList(), violations(module(UncachedRegexCheck.class), file));
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.checkstyle;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static io.netty.build.checkstyle.CheckTester.module;
+import static io.netty.build.checkstyle.CheckTester.violations;
+import static io.netty.build.checkstyle.CheckTester.write;
+import static org.junit.Assert.assertEquals;
+
+public class UnguardedLoggingCheckTest {
+
+    private static final String DEBUG =
+            "debug() message is built even if debug is disabled, use {} placeholders or an is...Enabled() guard";
+    private static final String TRACE =
+            "trace() message is built even if trace is disabled, use {} placeholders or an is...Enabled() guard";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReported() throws Exception {
+        File file = write(folder.newFile("A.java"), "class A {\n" +
+                "    void a(Object o, ByteBuf buf) {\n" +
+                "        logger.debug(\"a: \" + o);\n" +
+                "        LOG.trace(String.format(\"%s\", o));\n" +
+                "        log.debug(\"{}\", o.toString());\n" +
+                "        logger.trace(\"{}\", ByteBufUtil.hexDump(buf));\n" +
+                "        logger.debug(\"{}\", foo(\"a\" + o));\n" +
+                "    }\n" +
+                "}\n");
+        assertEquals(Arrays.asList("3:0: " + DEBUG, "4:0: " + TRACE, "5:0: " + DEBUG, "6:0: " + TRACE,
+                "7:0: " + DEBUG), violations(module(UnguardedLoggingCheck.class), file));
+    }
+
+    @Test
+    public void testNotExpensive() throws Exception {
+        File file = write(folder.newFile("A.java"), "class A {\n" +
+                "    static final String C = \"c\";\n" +
+                "    void a(Object o) {\n" +
+                "        logger.debug(\"a: {}\", o);\n" +
+                "        logger.debug(\"a\" + \"b\" + 1);\n" +
+                "        logger.debug(\"{}\", () -> \"a\" + o);\n" +
+                "        logger.info(\"a: \" + o);\n" +
+                "        other.debug(\"a: \" + o);\n" +
+                "        logger.debug(\"{}\", a + b);\n" +
+                "    }\n" +
+                "}\n");
+        assertEquals(Collections.<String>emptyList(), violations(module(UnguardedLoggingCheck.class), file));
+    }
+
+    @Test
+    public void testGuarded() throws Exception {
+        File file = write(folder.newFile("A.java"), "class A {\n" +
+                "    private final boolean traceEnabled = logger.isTraceEnabled();\n" +
+                "    private boolean debug;\n" +
+                "    A() {\n" +
+                "        this.debug = LOG.isDebugEnabled();\n" +
+                "    }\n" +
+                "    void a(Object o) {\n" +
+                "        if (logger.isDebugEnabled()) {\n" +
+                "            logger.debug(\"a: \" + o);\n" +
+                "        }\n" +
+                "        if (logger.isDebugEnabled(marker)) {\n" +
+                "            logger.debug(\"a: \" + o);\n" +
+                "        }\n" +
+                "        if (traceEnabled && o != null)\n" +
+                "            logger.trace(\"a: \" + o);\n" +
+                "        if (!(!logger.isDebugEnabled() || o == null)) {\n" +
+                "            logger.debug(\"a: \" + o);\n" +
+                "        }\n" +
+                "        if (!logger.isDebugEnabled()) {\n" +
+                "            o = null;\n" +
+                "        } else {\n" +
+                "            logger.debug(\"a: \" + o);\n" +
+                "        }\n" +
+                "    }\n" +
+                "    void b(Object o) {\n" +
+                "        if (!logger.isTraceEnabled() || o == null) {\n" +
+                "            return;\n" +
+                "        }\n" +
+                "        logger.trace(\"a: \" + o);\n" +
+                "    }\n" +
+                "    void c(java.util.List<Object> list) {\n" +
+                "        for (Object o : list) {\n" +
+                "            if (!debug) continue;\n" +
+                "            logger.debug(\"a: \" + o);\n" +
+                "        }\n" +
+                "    }\n" +
+                "    void d(Object o) {\n" +
+                "        if (logger.isTraceEnabled()) {\n" +
+                "            logger.debug(\"a: \" + o);\n" +
+                "        }\n" +
+                "        if (traceEnabled) {\n" +
+                "            logger.debug(\"a: \" + o);\n" +
+                "        }\n" +
+                "    }\n" +
+                "}\n");
+        assertEquals(Collections.<String>emptyList(), violations(module(UnguardedLoggingCheck.class), file));
+    }
+
+    @Test
+    public void testNotGuarded() throws Exception {
+        File file = write(folder.newFile("A.java"), "class A {\n" +
+                "    void a(Object o) {\n" +
+                "        if (logger.isDebugEnabled()) {\n" +
+                "            o = null;\n" +
+                "        } else {\n" +
+                "            logger.debug(\"a: \" + o);\n" +
+                "        }\n" +
+                "        if (!logger.isDebugEnabled()) {\n" +
+                "            logger.debug(\"a: \" + o);\n" +
+                "        }\n" +
+                "        if (logger.isTraceEnabled() || o != null) {\n" +
+                "            logger.trace(\"a: \" + o);\n" +
+                "        }\n" +
+                "    }\n" +
+                "    void b(Object o) {\n" +
+                "        if (logger.isDebugEnabled()) return;\n" +
+                "        logger.debug(\"a: \" + o);\n" +
+                "    }\n" +
+                "    void c(Object o) {\n" +
+                "        if (!logger.isDebugEnabled()) {\n" +
+                "            o = null;\n" +
+                "        }\n" +
+                "        logger.debug(\"a: \" + o);\n" +
+                "    }\n" +
+                "    void d(Object o) {\n" +
+                "        if (logger.isDebugEnabled()) {\n" +
+                "            executor.execute(new Runnable() {\n" +
+                "                public void run() {\n" +
+                "                    logger.debug(\"a: \" + o);\n" +
+                "                }\n" +
+                "            });\n" +
+                "            executor.execute(() -> logger.debug(\"a: \" + o));\n" +
+                "        }\n" +
+                "    }\n" +
+                "}\n");
+        assertEquals(Arrays.asList("6:0: " + DEBUG, "9:0: " + DEBUG, "12:0: " + TRACE, "17:0: " + DEBUG,
+                "23:0: " + DEBUG, "29:0: " + DEBUG, "32:0: " + DEBUG),
+                violations(module(UnguardedLoggingCheck.class), file));
+    }
+
+    @Test
+    public void testWrongGuard() throws Exception {
+        File file = write(folder.newFile("A.java"), "class A {\n" +
+                "    boolean debugMode;\n" +
+                "    boolean infoEnabled = logger.isInfoEnabled();\n" +
+                "    void a(Object o) {\n" +
+                "        if (logger.isDebugEnabled()) {\n" +
+                "            logger.trace(\"b \" + o);\n" +
+                "        }\n" +
+                "        if (debugMode) {\n" +
+                "            logger.debug(String.format(\"%s\", o));\n" +
+                "        }\n" +
+                "        if (infoEnabled) {\n" +
+                "            logger.debug(\"a: \" + o);\n" +
+                "        }\n" +
+                "        if (other.isDebugEnabled()) {\n" +
+                "            logger.debug(\"a: \" + o);\n" +
+                "        }\n" +
+                "    }\n" +
+                "}\n");
+        assertEquals(Arrays.asList("6:0: " + TRACE, "9:0: " + DEBUG, "12:0: " + DEBUG, "15:0: " + DEBUG),
+                violations(module(UnguardedLoggingCheck.class), file));
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.model.FileSet;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.codehaus.plexus.util.DirectoryScanner;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Base class of the goals which analyze native libraries. Libraries are either configured one by one via
+ * {@code nativeLib}, collected via the {@code nativeLibs} fileset or read from the JAR / ZIP archives of the
+ * {@code nativeJars} fileset and, with {@code versioncheck.checkProjectArtifacts}, of the project artifacts.
+ */
+public abstract class AbstractNativeLibraryMojo extends AbstractMojo {
+    @Parameter( property = "versioncheck.nativeLib")
+    private File nativeLib;
+    @Parameter
+    private FileSet nativeLibs;
+    @Parameter
+    private FileSet nativeJars;
+    // Also check the native libraries inside the main and attached artifacts of the project.
+    @Parameter( property = "versioncheck.checkProjectArtifacts", defaultValue = "false")
+    private boolean checkProjectArtifacts;
+    @Parameter( property = "versioncheck.nativeJarEntryPrefix", defaultValue = "META-INF/native/")
+    private String nativeJarEntryPrefix;
+    @Parameter( defaultValue = "${project.artifact}", readonly = true)
+    private Artifact projectArtifact;
+    @Parameter( defaultValue = "${project.attachedArtifacts}", readonly = true)
+    private List<Artifact> attachedArtifacts;
+
+    /**
+     * Returns all configured native libraries, fails if there are none. Opened archives are added to the given
+     * list and must be closed by the caller.
+     */
+    final List<NativeLibrary> nativeLibs(List<ZipFile> archives) throws MojoExecutionException {
+        List<NativeLibrary> libs = new ArrayList<NativeLibrary>();
+        Set<File> files = new LinkedHashSet<File>();
+        if (nativeLib != null) {
+            files.add(nativeLib);
+        }
+        files.addAll(scan(nativeLibs));
+        for (File file : files) {
+            if (!file.isFile()) {
+                throw new MojoExecutionException(file + " is not a file");
+            }
+            libs.add(NativeLibrary.ofFile(file));
+        }
+
+        Set<File> jars = new LinkedHashSet<File>(scan(nativeJars));
+        if (checkProjectArtifacts) {
+            if (projectArtifact != null && isArchive(projectArtifact.getFile())) {
+                jars.add(projectArtifact.getFile());
+            }
+            if (attachedArtifacts != null) {
+                for (Artifact artifact : attachedArtifacts) {
+                    if (isArchive(artifact.getFile())) {
+                        jars.add(artifact.getFile());
+                    }
+                }
+            }
+        }
+        for (File jar : jars) {
+            ZipFile archive;
+            try {
+                archive = new ZipFile(jar);
+            } catch (IOException e) {
+                throw new MojoExecutionException("Unable to open " + jar, e);
+            }
+            archives.add(archive);
+            int found = 0;
+            Enumeration<? extends ZipEntry> entries = archive.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                String name = entry.getName();
+                if (!entry.isDirectory() && name.startsWith(nativeJarEntryPrefix) && name.endsWith(".so")) {
+                    libs.add(NativeLibrary.ofEntry(jar, archive, entry));
+                    found++;
+                }
+            }
+            getLog().debug("Found " + found + " native libraries in " + jar);
+        }
+        if (libs.isEmpty()) {
+            throw new MojoExecutionException("No native library configured, set nativeLib, nativeLibs, " +
+                    "nativeJars and / or checkProjectArtifacts");
+        }
+        return libs;
+    }
+
+    private List<File> scan(FileSet fileSet) {
+        List<File> files = new ArrayList<File>();
+        if (fileSet == null || fileSet.getDirectory() == null) {
+            return files;
+        }
+        File directory = new File(fileSet.getDirectory());
+        if (!directory.isDirectory()) {
+            getLog().warn(directory + " is not a directory, no files collected from it");
+            return files;
+        }
+        DirectoryScanner scanner = new DirectoryScanner();
+        scanner.setBasedir(directory);
+        if (!fileSet.getIncludes().isEmpty()) {
+            scanner.setIncludes(fileSet.getIncludes().toArray(new String[0]));
+        }
+        if (!fileSet.getExcludes().isEmpty()) {
+            scanner.setExcludes(fileSet.getExcludes().toArray(new String[0]));
+        }
+        scanner.scan();
+        for (String file : scanner.getIncludedFiles()) {
+            files.add(new File(directory, file));
+        }
+        return files;
+    }
+
+    private static boolean isArchive(File file) {
+        if (file == null || !file.isFile()) {
+            return false;
+        }
+        String name = file.getName();
+        return name.endsWith(".jar") || name.endsWith(".zip");
+    }
+
+    static void closeSilently(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException ignore) {
+                // ignore
+            }
+        }
+    }
+}
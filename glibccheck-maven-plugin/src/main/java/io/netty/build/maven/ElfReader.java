@@ -0,0 +1,411 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal reader for ELF32 / ELF64 shared libraries which extracts the versions required for the dynamic
+ * symbols by walking {@code .dynsym}, {@code .gnu.version} and {@code .gnu.version_r} directly. This gives the
+ * same information as {@code objdump -T} without forking a process.
+ *
+ * It also reads the metrics of {@code .dynamic} and {@code .dynsym} which drive the cost of loading the library,
+ * see {@link #loadCost()}.
+ */
+final class ElfReader {
+
+    private static final int EI_CLASS = 4;
+    private static final int EI_DATA = 5;
+    private static final int ELFCLASS32 = 1;
+    private static final int ELFCLASS64 = 2;
+    private static final int ELFDATA2LSB = 1;
+    private static final int ELFDATA2MSB = 2;
+
+    private static final int SHT_DYNAMIC = 6;
+    private static final int SHT_DYNSYM = 11;
+    private static final int SHT_RELR = 19;
+    private static final int SHT_GNU_VERNEED = 0x6ffffffe;
+    private static final int SHT_GNU_VERSYM = 0x6fffffff;
+
+    // Version indexes 0 and 1 are reserved for local and global (unversioned) symbols.
+    private static final int VER_NDX_GLOBAL = 1;
+    private static final int VERSYM_INDEX_MASK = 0x7fff;
+
+    private static final int DT_NULL = 0;
+    private static final int DT_NEEDED = 1;
+    private static final int DT_PLTRELSZ = 2;
+    private static final int DT_RELA = 7;
+    private static final int DT_RELASZ = 8;
+    private static final int DT_RELAENT = 9;
+    private static final int DT_RELSZ = 18;
+    private static final int DT_RELENT = 19;
+    private static final int DT_PLTREL = 20;
+    private static final int DT_TEXTREL = 22;
+    private static final int DT_FLAGS = 30;
+    private static final int DT_RELACOUNT = 0x6ffffff9;
+    private static final int DT_RELCOUNT = 0x6ffffffa;
+    private static final int DF_TEXTREL = 0x4;
+
+    private static final int SHN_UNDEF = 0;
+    private static final int STB_GLOBAL = 1;
+    private static final int STB_WEAK = 2;
+    private static final int STB_GNU_UNIQUE = 10;
+    private static final int STV_DEFAULT = 0;
+    private static final int STV_PROTECTED = 3;
+
+    private final ByteBuffer buffer;
+    private final boolean elf64;
+    private final Section[] sections;
+
+    ElfReader(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer.duplicate();
+        if (this.buffer.remaining() < 52 || this.buffer.get(0) != 0x7f || this.buffer.get(1) != 'E' ||
+                this.buffer.get(2) != 'L' || this.buffer.get(3) != 'F') {
+            throw new IOException("Not an ELF file");
+        }
+        switch (this.buffer.get(EI_CLASS)) {
+            case ELFCLASS32:
+                elf64 = false;
+                break;
+            case ELFCLASS64:
+                elf64 = true;
+                break;
+            default:
+                throw new IOException("Unsupported ELF class: " + this.buffer.get(EI_CLASS));
+        }
+        switch (this.buffer.get(EI_DATA)) {
+            case ELFDATA2LSB:
+                this.buffer.order(ByteOrder.LITTLE_ENDIAN);
+                break;
+            case ELFDATA2MSB:
+                this.buffer.order(ByteOrder.BIG_ENDIAN);
+                break;
+            default:
+                throw new IOException("Unsupported ELF data encoding: " + this.buffer.get(EI_DATA));
+        }
+        try {
+            sections = readSections();
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Malformed ELF section header table", e);
+        }
+    }
+
+    /**
+     * Memory-map the given file and create a reader for it.
+     */
+    static ElfReader open(File file) throws IOException {
+        return new ElfReader(map(file));
+    }
+
+    /**
+     * Memory-map the given file read-only.
+     */
+    static ByteBuffer map(File file) throws IOException {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Returns all dynamic symbols that reference a version required from another shared object, in symbol table
+     * order.
+     */
+    List<SymbolVersion> requiredSymbolVersions() throws IOException {
+        List<SymbolVersion> result = new ArrayList<SymbolVersion>();
+        Section dynsym = findSection(SHT_DYNSYM);
+        Section versym = findSection(SHT_GNU_VERSYM);
+        Section verneed = findSection(SHT_GNU_VERNEED);
+        if (dynsym == null || versym == null || verneed == null) {
+            // No versioned dynamic symbols at all.
+            return result;
+        }
+        try {
+            String[] versionNames = readVersionNames(verneed);
+            Section dynstr = section(dynsym.link);
+            int symSize = elf64 ? 24 : 16;
+            long count = Math.min(dynsym.size / symSize, versym.size / 2);
+            for (int i = 1; i < count; i++) {
+                int index = buffer.getShort(offset(versym.offset + 2L * i)) & VERSYM_INDEX_MASK;
+                if (index <= VER_NDX_GLOBAL || index >= versionNames.length || versionNames[index] == null) {
+                    continue;
+                }
+                int nameOffset = buffer.getInt(offset(dynsym.offset + (long) symSize * i));
+                result.add(new SymbolVersion(readString(dynstr, nameOffset), versionNames[index]));
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Malformed ELF symbol version information", e);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the dynamic relocations, {@code DT_NEEDED} entries, exported symbols and text relocations of the
+     * library.
+     */
+    LoadCost loadCost() throws IOException {
+        try {
+            return readLoadCost();
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Malformed ELF dynamic section", e);
+        }
+    }
+
+    private LoadCost readLoadCost() throws IOException {
+        List<String> needed = new ArrayList<String>();
+        long relaSize = 0;
+        long relaEntry = elf64 ? 24 : 12;
+        long relSize = 0;
+        long relEntry = elf64 ? 16 : 8;
+        long pltRelSize = 0;
+        long pltRel = DT_RELA;
+        long relativeRelocations = 0;
+        boolean textRelocations = false;
+        Section dynamic = findSection(SHT_DYNAMIC);
+        if (dynamic != null) {
+            Section dynstr = section(dynamic.link);
+            int entrySize = elf64 ? 16 : 8;
+            for (long entry = dynamic.offset; entry + entrySize <= dynamic.offset + dynamic.size;
+                 entry += entrySize) {
+                long tag = elf64 ? buffer.getLong(offset(entry)) : buffer.getInt(offset(entry));
+                long value = elf64 ? buffer.getLong(offset(entry + 8)) :
+                        buffer.getInt(offset(entry + 4)) & 0xffffffffL;
+                if (tag == DT_NULL) {
+                    break;
+                }
+                switch ((int) tag) {
+                    case DT_NEEDED:
+                        needed.add(readString(dynstr, (int) value));
+                        break;
+                    case DT_PLTRELSZ:
+                        pltRelSize = value;
+                        break;
+                    case DT_RELASZ:
+                        relaSize = value;
+                        break;
+                    case DT_RELAENT:
+                        relaEntry = value;
+                        break;
+                    case DT_RELSZ:
+                        relSize = value;
+                        break;
+                    case DT_RELENT:
+                        relEntry = value;
+                        break;
+                    case DT_PLTREL:
+                        pltRel = value;
+                        break;
+                    case DT_TEXTREL:
+                        textRelocations = true;
+                        break;
+                    case DT_FLAGS:
+                        textRelocations |= (value & DF_TEXTREL) != 0;
+                        break;
+                    case DT_RELACOUNT:
+                    case DT_RELCOUNT:
+                        relativeRelocations += value;
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        if (relaEntry <= 0 || relEntry <= 0) {
+            throw new IOException("Invalid ELF relocation entry size");
+        }
+        long relrRelocations = countRelrRelocations();
+        long relocations = relaSize / relaEntry + relSize / relEntry +
+                pltRelSize / (pltRel == DT_RELA ? relaEntry : relEntry) + relrRelocations;
+        relativeRelocations += relrRelocations;
+        return new LoadCost(relocations, relativeRelocations, needed, countExportedSymbols(), textRelocations);
+    }
+
+    // Packed relative relocations: an even entry is the address of one relocation, an odd entry a bitmap of the
+    // relocations in the following words.
+    private long countRelrRelocations() throws IOException {
+        Section relr = findSection(SHT_RELR);
+        if (relr == null) {
+            return 0;
+        }
+        int entrySize = elf64 ? 8 : 4;
+        long count = 0;
+        for (long entry = relr.offset; entry + entrySize <= relr.offset + relr.size; entry += entrySize) {
+            long value = elf64 ? buffer.getLong(offset(entry)) : buffer.getInt(offset(entry)) & 0xffffffffL;
+            count += (value & 1) == 0 ? 1 : Long.bitCount(value) - 1;
+        }
+        return count;
+    }
+
+    private long countExportedSymbols() throws IOException {
+        Section dynsym = findSection(SHT_DYNSYM);
+        if (dynsym == null) {
+            return 0;
+        }
+        int symSize = elf64 ? 24 : 16;
+        long count = 0;
+        // Index 0 is the reserved undefined symbol.
+        for (long symbol = dynsym.offset + symSize; symbol + symSize <= dynsym.offset + dynsym.size;
+             symbol += symSize) {
+            int base = offset(symbol);
+            int info = buffer.get(base + (elf64 ? 4 : 12)) & 0xff;
+            int other = buffer.get(base + (elf64 ? 5 : 13)) & 0xff;
+            int shndx = buffer.getShort(base + (elf64 ? 6 : 14)) & 0xffff;
+            int bind = info >> 4;
+            int visibility = other & 0x3;
+            if (shndx != SHN_UNDEF && (bind == STB_GLOBAL || bind == STB_WEAK || bind == STB_GNU_UNIQUE) &&
+                    (visibility == STV_DEFAULT || visibility == STV_PROTECTED)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private String[] readVersionNames(Section verneed) throws IOException {
+        Section strtab = section(verneed.link);
+        List<String> names = new ArrayList<String>();
+        long entry = verneed.offset;
+        // sh_info holds the number of Verneed entries.
+        for (int i = 0; i < verneed.info; i++) {
+            int cnt = buffer.getShort(offset(entry + 2)) & 0xffff;
+            long aux = entry + (buffer.getInt(offset(entry + 8)) & 0xffffffffL);
+            for (int j = 0; j < cnt; j++) {
+                int other = buffer.getShort(offset(aux + 6)) & VERSYM_INDEX_MASK;
+                String name = readString(strtab, buffer.getInt(offset(aux + 8)));
+                while (names.size() <= other) {
+                    names.add(null);
+                }
+                names.set(other, name);
+                int next = buffer.getInt(offset(aux + 12));
+                if (next == 0) {
+                    break;
+                }
+                aux += next & 0xffffffffL;
+            }
+            int next = buffer.getInt(offset(entry + 12));
+            if (next == 0) {
+                break;
+            }
+            entry += next & 0xffffffffL;
+        }
+        return names.toArray(new String[0]);
+    }
+
+    private Section[] readSections() throws IOException {
+        long shoff = elf64 ? buffer.getLong(0x28) : buffer.getInt(0x20) & 0xffffffffL;
+        int shentsize = buffer.getShort(elf64 ? 0x3a : 0x2e) & 0xffff;
+        int shnum = buffer.getShort(elf64 ? 0x3c : 0x30) & 0xffff;
+        if (shoff == 0) {
+            return new Section[0];
+        }
+        if (shnum == 0) {
+            // Extended section numbering, the real count is stored in sh_size of the first section header.
+            shnum = (int) new Section(shoff).size;
+        }
+        Section[] result = new Section[shnum];
+        for (int i = 0; i < shnum; i++) {
+            result[i] = new Section(shoff + (long) shentsize * i);
+        }
+        return result;
+    }
+
+    private Section findSection(int type) {
+        for (Section section : sections) {
+            if (section.type == type) {
+                return section;
+            }
+        }
+        return null;
+    }
+
+    private Section section(int index) throws IOException {
+        if (index <= 0 || index >= sections.length) {
+            throw new IOException("Invalid ELF section index: " + index);
+        }
+        return sections[index];
+    }
+
+    private String readString(Section strtab, int index) throws IOException {
+        int start = offset(strtab.offset + (index & 0xffffffffL));
+        int end = start;
+        while (buffer.get(end) != 0) {
+            end++;
+        }
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int offset(long offset) throws IOException {
+        if (offset < 0 || offset >= buffer.limit()) {
+            throw new IOException("ELF offset out of bounds: " + offset);
+        }
+        return (int) offset;
+    }
+
+    private final class Section {
+        final int type;
+        final long offset;
+        final long size;
+        final int link;
+        final int info;
+
+        Section(long header) throws IOException {
+            int base = offset(header);
+            type = buffer.getInt(base + 4);
+            if (elf64) {
+                offset = buffer.getLong(base + 0x18);
+                size = buffer.getLong(base + 0x20);
+                link = buffer.getInt(base + 0x28);
+                info = buffer.getInt(base + 0x2c);
+            } else {
+                offset = buffer.getInt(base + 0x10) & 0xffffffffL;
+                size = buffer.getInt(base + 0x14) & 0xffffffffL;
+                link = buffer.getInt(base + 0x18);
+                info = buffer.getInt(base + 0x1c);
+            }
+        }
+    }
+
+    /**
+     * A dynamic symbol together with the name of the version it requires, for example {@code GLIBC_2.2.5}.
+     */
+    static final class SymbolVersion {
+        final String symbol;
+        final String version;
+
+        SymbolVersion(String symbol, String version) {
+            this.symbol = symbol;
+            this.version = version;
+        }
+
+        @Override
+        public String toString() {
+            return version + ' ' + symbol;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Persistent cache of {@link GlibcCheckResult}s, keyed by the SHA-256 of the library content and the maximal
+ * allowed GLIBC version. Every entry is its own file which is written to a temporary file first and then
+ * atomically moved in place, so concurrent builds sharing the directory never see partial entries.
+ */
+final class GlibcCheckCache {
+
+    // Bump whenever the entry format or the analysis changes, so stale entries are not used anymore.
+    private static final String FORMAT = "v1";
+    private static final String REQUIRED = "required=";
+    private static final String VIOLATION = "violation=";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final File directory;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    GlibcCheckCache(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the cache key for the given library content and maximal allowed GLIBC version.
+     */
+    static String key(ByteBuffer content, int major, int minor, int bugfix) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+        digest.update(content.duplicate());
+        byte[] hash = digest.digest();
+        StringBuilder sb = new StringBuilder(hash.length * 2 + 16);
+        for (byte b : hash) {
+            sb.append(HEX[(b >> 4) & 0xf]).append(HEX[b & 0xf]);
+        }
+        return sb.append('-').append(GlibcCheckResult.glibcVersion(major, minor, bugfix)).toString();
+    }
+
+    /**
+     * Returns the cached result for the given key or {@code null} if there is none.
+     */
+    GlibcCheckResult get(String key, int major, int minor, int bugfix) {
+        File file = new File(directory, key);
+        GlibcCheckResult result = null;
+        if (file.isFile()) {
+            try {
+                result = read(file.toPath(), major, minor, bugfix);
+            } catch (IOException e) {
+                // Treat unreadable entries as a miss, they will be overwritten.
+            } catch (RuntimeException e) {
+                // Same for corrupt entries.
+            }
+        }
+        if (result == null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return result;
+    }
+
+    void put(String key, GlibcCheckResult result) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append(FORMAT).append('\n');
+        String required = result.requiredVersion();
+        sb.append(REQUIRED).append(required == null ? "" : required).append('\n');
+        for (GlibcCheckResult.Violation violation : result.violations()) {
+            sb.append(VIOLATION).append(violation).append('\n');
+        }
+
+        Path dir = directory.toPath();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, key, ".tmp");
+        try {
+            Files.write(tmp, sb.toString().getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(tmp, dir.resolve(key), StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, dir.resolve(key), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    int hits() {
+        return hits.get();
+    }
+
+    int misses() {
+        return misses.get();
+    }
+
+    private static GlibcCheckResult read(Path file, int major, int minor, int bugfix) throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        if (lines.size() < 2 || !FORMAT.equals(lines.get(0)) || !lines.get(1).startsWith(REQUIRED)) {
+            return null;
+        }
+        GlibcCheckResult result = new GlibcCheckResult(major, minor, bugfix);
+        String required = lines.get(1).substring(REQUIRED.length());
+        if (!required.isEmpty()) {
+            int[] version = parseVersion(required);
+            result.require(version[0], version[1], version[2]);
+        }
+        for (int i = 2; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (!line.startsWith(VIOLATION)) {
+                return null;
+            }
+            int space = line.indexOf(' ', VIOLATION.length());
+            int[] version = parseVersion(line.substring(VIOLATION.length(), space));
+            result.add(version[0], version[1], version[2], line.substring(space + 1));
+        }
+        return result;
+    }
+
+    private static int[] parseVersion(String version) {
+        int first = version.indexOf('.');
+        int second = version.indexOf('.', first + 1);
+        return new int[] {
+                Integer.parseInt(version.substring(0, first)),
+                Integer.parseInt(version.substring(first + 1, second)),
+                Integer.parseInt(version.substring(second + 1))
+        };
+    }
+}
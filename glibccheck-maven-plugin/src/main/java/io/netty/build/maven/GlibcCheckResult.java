@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven;
+
+import org.apache.maven.plugin.MojoFailureException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The GLIBC requirements of a single native library, checked against the maximal allowed version.
+ */
+final class GlibcCheckResult {
+
+    private static final Comparator<Violation> VIOLATION_ORDER = new Comparator<Violation>() {
+        @Override
+        public int compare(Violation v1, Violation v2) {
+            int cmp = GlibcCheckResult.compare(v1.major, v1.minor, v1.bugfix, v2.major, v2.minor, v2.bugfix);
+            return cmp != 0 ? cmp : v1.function.compareTo(v2.function);
+        }
+    };
+
+    private final int major;
+    private final int minor;
+    private final int bugfix;
+    private final List<Violation> violations = new ArrayList<Violation>();
+
+    // -1 as long as no GLIBC version is required at all.
+    private int requiredMajor = -1;
+    private int requiredMinor;
+    private int requiredBugfix;
+
+    GlibcCheckResult(int major, int minor, int bugfix) {
+        this.major = major;
+        this.minor = minor;
+        this.bugfix = bugfix;
+    }
+
+    /**
+     * Record that {@code function} requires the given GLIBC version.
+     */
+    void add(int foundMajor, int foundMinor, int foundBugfix, String function) {
+        require(foundMajor, foundMinor, foundBugfix);
+        if (!isAllowed(foundMajor, foundMinor, foundBugfix)) {
+            violations.add(new Violation(foundMajor, foundMinor, foundBugfix, function));
+        }
+    }
+
+    /**
+     * Returns {@code true} if the given GLIBC version does not exceed the maximal allowed version.
+     */
+    boolean isAllowed(int foundMajor, int foundMinor, int foundBugfix) {
+        return compare(foundMajor, foundMinor, foundBugfix, major, minor, bugfix) <= 0;
+    }
+
+    /**
+     * Record that the given GLIBC version is required, without attributing it to a function.
+     */
+    void require(int foundMajor, int foundMinor, int foundBugfix) {
+        if (compare(foundMajor, foundMinor, foundBugfix, requiredMajor, requiredMinor, requiredBugfix) > 0) {
+            requiredMajor = foundMajor;
+            requiredMinor = foundMinor;
+            requiredBugfix = foundBugfix;
+        }
+    }
+
+    /**
+     * Returns the highest GLIBC version required by any symbol or {@code null} if none is required.
+     */
+    String requiredVersion() {
+        return requiredMajor < 0 ? null : glibcVersion(requiredMajor, requiredMinor, requiredBugfix);
+    }
+
+    List<Violation> violations() {
+        return Collections.unmodifiableList(violations);
+    }
+
+    /**
+     * Throws a {@link MojoFailureException} listing every symbol that requires a GLIBC version which is not
+     * allowed, sorted by the required version.
+     */
+    void assertCompatible() throws MojoFailureException {
+        if (violations.isEmpty()) {
+            return;
+        }
+        if (violations.size() == 1) {
+            Violation violation = violations.get(0);
+            throw new MojoFailureException("Required GLIBC " + violation.version() + " > " +
+                    glibcVersion(major, minor, bugfix) + ". Required by '" + violation.function + "'.");
+        }
+        List<Violation> sorted = new ArrayList<Violation>(violations);
+        Collections.sort(sorted, VIOLATION_ORDER);
+        StringBuilder sb = new StringBuilder();
+        sb.append("Required GLIBC ").append(requiredVersion()).append(" > ").append(glibcVersion(major, minor, bugfix))
+                .append(". Required by ").append(sorted.size()).append(" symbols:");
+        for (Violation violation : sorted) {
+            sb.append("\n    ").append(violation.version()).append(" '").append(violation.function).append('\'');
+        }
+        throw new MojoFailureException(sb.toString());
+    }
+
+    private static int compare(int major1, int minor1, int bugfix1, int major2, int minor2, int bugfix2) {
+        if (major1 != major2) {
+            return major1 < major2 ? -1 : 1;
+        }
+        if (minor1 != minor2) {
+            return minor1 < minor2 ? -1 : 1;
+        }
+        if (bugfix1 != bugfix2) {
+            return bugfix1 < bugfix2 ? -1 : 1;
+        }
+        return 0;
+    }
+
+    static String glibcVersion(int major, int minor, int bugfix) {
+        return major + "." + minor + "." + bugfix;
+    }
+
+    /**
+     * A function which requires a GLIBC version that is higher than the allowed one.
+     */
+    static final class Violation {
+        final int major;
+        final int minor;
+        final int bugfix;
+        final String function;
+
+        Violation(int major, int minor, int bugfix, String function) {
+            this.major = major;
+            this.minor = minor;
+            this.bugfix = bugfix;
+            this.function = function;
+        }
+
+        String version() {
+            return glibcVersion(major, minor, bugfix);
+        }
+
+        @Override
+        public String toString() {
+            return version() + ' ' + function;
+        }
+    }
+}
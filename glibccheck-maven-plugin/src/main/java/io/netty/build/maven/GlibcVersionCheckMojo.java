@@ -15,45 +15,67 @@
  */
 package io.netty.build.maven;
 
-import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 
-import java.io.ByteArrayOutputStream;
-import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
-import java.util.StringTokenizer;
-import java.util.regex.Matcher;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
+import java.util.zip.ZipFile;
 
 /**
- * Verify that a native library is usable on a specific GLIBC version.
+ * Verify that native libraries are usable on a specific GLIBC version.
+ *
+ * Libraries are either configured one by one via {@code nativeLib} or collected via the {@code nativeLibs}
+ * fileset. Libraries shipped inside JAR / ZIP archives, like Netty's native classifier JARs, can be checked
+ * without extracting them via the {@code nativeJars} fileset or {@code versioncheck.checkProjectArtifacts}. When
+ * more than one library is configured they are checked concurrently and all failures are reported together.
+ *
+ * Results are cached in {@code versioncheck.cacheDirectory}, keyed by the content hash of the library and the
+ * maximal allowed GLIBC version, so unchanged libraries are not analyzed again.
+ *
+ * The required versions are read directly from the ELF symbol version tables of the library. Setting
+ * {@code versioncheck.useObjdump} switches back to parsing the output of {@code objdump -T}.
  */
 @Mojo(name= "versioncheck", defaultPhase = LifecyclePhase.VERIFY)
-public final class GlibcVersionCheckMojo extends AbstractMojo {
-    // Pattern / regex to extract the GLIBC version dependencies.
-    private static final Pattern GLIBC_PATTERN = Pattern.compile(".+ GLIBC_([0-9]).([0-9]+)(.([0-9]+))? (.+)");
+public final class GlibcVersionCheckMojo extends AbstractNativeLibraryMojo {
+    private static final String GLIBC_PREFIX = "GLIBC_";
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
 
     @Parameter( property = "versioncheck.maxGlibcVersion", required = true)
     private String maxGlibcVersion;
     @Parameter( property = "versioncheck.objdump")
     private String objdump;
-    @Parameter( property = "versioncheck.nativeLib", required = true)
-    private File nativeLib;
+    @Parameter( property = "versioncheck.useObjdump", defaultValue = "false")
+    private boolean useObjdump;
+    // Number of libraries to check concurrently, 0 means one per available processor.
+    @Parameter( property = "versioncheck.threads", defaultValue = "0")
+    private int threads;
+    @Parameter( property = "versioncheck.cacheDirectory", defaultValue = "${project.build.directory}/glibccheck-cache")
+    private File cacheDirectory;
+    @Parameter( property = "versioncheck.useCache", defaultValue = "true")
+    private boolean useCache;
 
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
-        if (objdump == null) {
+        if (useObjdump && objdump == null) {
             // Try to detect the objdump installation.
-            String osname = System.getProperty("os.name", "").toLowerCase(Locale.US)
-                    .replaceAll("[^a-z0-9]+", "");
+            String osname = NON_ALPHANUMERIC.matcher(System.getProperty("os.name", "").toLowerCase(Locale.US))
+                    .replaceAll("");
             boolean osx = osname.startsWith("macosx") || osname.startsWith("osx");
             if (osx) {
                 objdump = checkObjdumpExists("/usr/local/opt/binutils/bin/gobjdump", "brew install binutils");
@@ -87,72 +109,209 @@ public final class GlibcVersionCheckMojo extends AbstractMojo {
             throw new MojoExecutionException("Unable to parse maxGlibcVersion: " + maxGlibcVersion, e);
         }
 
-        if ( !nativeLib.isFile() ) {
-            throw new MojoExecutionException(nativeLib + " is not a file");
+        List<ZipFile> archives = new ArrayList<ZipFile>();
+        try {
+            checkLibraries(nativeLibs(archives), majorVersion, minorVersion, bugFixVersion);
+        } finally {
+            for (ZipFile archive : archives) {
+                closeSilently(archive);
+            }
         }
-        InputStream in = null;
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
+    }
+
+    // Package-private for easy testing
+    void checkLibraries(final List<NativeLibrary> libs, final int majorVersion, final int minorVersion,
+                        final int bugFixVersion) throws MojoExecutionException, MojoFailureException {
+        final GlibcCheckCache cache = useCache ? new GlibcCheckCache(cacheDirectory) : null;
+        if (libs.size() == 1) {
+            try {
+                checkLibrary(libs.get(0), cache, majorVersion, minorVersion, bugFixVersion).assertCompatible();
+            } finally {
+                logCacheStatistics(cache);
+            }
+            return;
+        }
+
+        int nThreads = Math.min(libs.size(), threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+        List<String> failures = new ArrayList<String>();
         try {
-            String cmd = objdump + " -T " + nativeLib;
-            Process process = Runtime.getRuntime()
-                    .exec(cmd);
-            int rcode = process.waitFor();
-            if (rcode != 0) {
-                throw new MojoExecutionException(cmd + " exit with return code " + rcode);
+            List<Future<String>> futures = new ArrayList<Future<String>>(libs.size());
+            for (final NativeLibrary lib : libs) {
+                futures.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() throws MojoExecutionException {
+                        try {
+                            checkLibrary(lib, cache, majorVersion, minorVersion, bugFixVersion).assertCompatible();
+                            return null;
+                        } catch (MojoFailureException e) {
+                            return lib + ": " + e.getMessage();
+                        }
+                    }
+                }));
+            }
+            for (int i = 0; i < libs.size(); i++) {
+                String failure = futures.get(i).get();
+                if (failure == null) {
+                    getLog().info(libs.get(i) + ": OK");
+                } else {
+                    getLog().error(failure);
+                    failures.add(failure);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted while checking native libraries", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof MojoExecutionException) {
+                throw (MojoExecutionException) cause;
+            }
+            throw new MojoExecutionException("Unable to check native libraries", cause);
+        } finally {
+            executor.shutdownNow();
+            logCacheStatistics(cache);
+        }
+        String maxVersion = GlibcCheckResult.glibcVersion(majorVersion, minorVersion, bugFixVersion);
+        getLog().info("Checked " + libs.size() + " native libraries against GLIBC " + maxVersion + ", " +
+                failures.size() + " failed");
+        if (!failures.isEmpty()) {
+            StringBuilder sb = new StringBuilder();
+            sb.append(failures.size()).append(" of ").append(libs.size())
+                    .append(" native libraries require a GLIBC version > ").append(maxVersion).append(':');
+            for (String failure : failures) {
+                sb.append("\n  ").append(failure);
+            }
+            throw new MojoFailureException(sb.toString());
+        }
+    }
+
+    private void logCacheStatistics(GlibcCheckCache cache) {
+        if (cache != null) {
+            getLog().info("GLIBC version check cache: " + cache.hits() + " hit(s), " + cache.misses() + " miss(es)");
+        }
+    }
+
+    private GlibcCheckResult checkLibrary(NativeLibrary lib, GlibcCheckCache cache, int majorVersion,
+                                          int minorVersion, int bugFixVersion) throws MojoExecutionException {
+        ByteBuffer content;
+        try {
+            content = lib.content();
+        } catch (IOException e) {
+            throw new MojoExecutionException("Unable to read " + lib, e);
+        }
+        String key = null;
+        if (cache != null) {
+            key = GlibcCheckCache.key(content, majorVersion, minorVersion, bugFixVersion);
+            GlibcCheckResult result = cache.get(key, majorVersion, minorVersion, bugFixVersion);
+            if (result != null) {
+                return result;
+            }
+        }
+
+        GlibcCheckResult result;
+        // objdump can only be used for plain files, archive entries are always read in-process.
+        if (useObjdump && lib.file() != null) {
+            result = checkWithObjdump(lib.file(), majorVersion, minorVersion, bugFixVersion);
+        } else {
+            try {
+                result = analyze(majorVersion, minorVersion, bugFixVersion,
+                        new ElfReader(content).requiredSymbolVersions());
+            } catch (IOException e) {
+                throw new MojoExecutionException("Unable to read ELF symbol versions of " + lib, e);
             }
+        }
+        if (cache != null) {
+            try {
+                cache.put(key, result);
+            } catch (IOException e) {
+                getLog().warn("Unable to cache the GLIBC version check result of " + lib, e);
+            }
+        }
+        return result;
+    }
+
+    private GlibcCheckResult checkWithObjdump(File lib, int majorVersion, int minorVersion, int bugFixVersion)
+            throws MojoExecutionException {
+        ObjdumpParser parser = new ObjdumpParser(new GlibcCheckResult(majorVersion, minorVersion, bugFixVersion));
+        InputStream in = null;
+        try {
+            ProcessBuilder builder = new ProcessBuilder(objdump, "-T", lib.getPath());
+            builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+            Process process = builder.start();
             in = process.getInputStream();
 
+            // Consume the output while objdump is still running, so it never blocks on a full pipe.
             byte[] bytes = new byte[8192];
             int i;
             while ((i = in.read(bytes)) != -1) {
-                out.write(bytes, 0, i);
+                parser.feed(bytes, 0, i);
             }
-            out.flush();
-            check(majorVersion, minorVersion, bugFixVersion, new String(out.toByteArray(), StandardCharsets.UTF_8));
+            int rcode = process.waitFor();
+            if (rcode != 0) {
+                throw new MojoExecutionException(objdump + " -T " + lib + " exit with return code " + rcode);
+            }
+            return parser.finish();
         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             throw new MojoExecutionException("Interrupted while waiting for objdump to complete", e);
         } catch (IOException e) {
             throw new MojoExecutionException("Unable to execute objdump", e);
         } finally {
             closeSilently(in);
-            closeSilently(out);
         }
     }
 
-    private static void closeSilently(Closeable closeable) {
-        if (closeable != null) {
-            try {
-                closeable.close();
-            } catch (IOException ignore) {
-                // ignore
-            }
-        }
+    // Package-private for easy testing
+    static void check(int major, int minor, int bugfix, String in) throws MojoFailureException {
+        analyze(major, minor, bugfix, in).assertCompatible();
     }
 
     // Package-private for easy testing
-    static void check(int major, int minor, int bugfix, String in) throws MojoFailureException {
-        StringTokenizer tokenizer = new StringTokenizer(in, "\n");
-        while (tokenizer.hasMoreElements()) {
-            String line = tokenizer.nextToken();
-            Matcher matcher = GLIBC_PATTERN.matcher(line);
-            if (matcher.matches()) {
-                int foundMajor = Integer.parseInt(matcher.group(1));
-                int foundMinor = Integer.parseInt(matcher.group(2));
-                int foundBugfix = matcher.group(4) == null ? 0 : Integer.parseInt(matcher.group(4));
-                String function = matcher.group(5).trim();
-                if (foundMajor > major) {
-                    failure(major, minor, bugfix, foundMajor, foundMinor, foundBugfix, function);
-                } else if (foundMajor == major) {
-                    if (foundMinor > minor) {
-                        failure(major, minor, bugfix, foundMajor, foundMinor, foundBugfix, function);
-                    } else if (foundMinor == minor) {
-                        if (foundBugfix > bugfix) {
-                            failure(major, minor, bugfix, foundMajor, foundMinor, foundBugfix, function);
-                        }
-                    }
+    static void check(int major, int minor, int bugfix, List<ElfReader.SymbolVersion> versions)
+            throws MojoFailureException {
+        analyze(major, minor, bugfix, versions).assertCompatible();
+    }
+
+    private static GlibcCheckResult analyze(int major, int minor, int bugfix, String in) {
+        ObjdumpParser parser = new ObjdumpParser(new GlibcCheckResult(major, minor, bugfix));
+        byte[] bytes = in.getBytes(StandardCharsets.UTF_8);
+        parser.feed(bytes, 0, bytes.length);
+        return parser.finish();
+    }
+
+    private static GlibcCheckResult analyze(int major, int minor, int bugfix,
+                                            List<ElfReader.SymbolVersion> versions) {
+        GlibcCheckResult result = new GlibcCheckResult(major, minor, bugfix);
+        for (ElfReader.SymbolVersion version : versions) {
+            String name = version.version;
+            if (!name.startsWith(GLIBC_PREFIX)) {
+                continue;
+            }
+            // Parse GLIBC_x.y[.z], everything else (like GLIBC_PRIVATE) is ignored just like the objdump parser
+            // does.
+            int[] parts = new int[3];
+            int part = 0;
+            int digits = 0;
+            boolean valid = true;
+            for (int i = GLIBC_PREFIX.length(); i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    parts[part] = parts[part] * 10 + c - '0';
+                    digits++;
+                } else if (c == '.' && digits > 0 && part < 2) {
+                    part++;
+                    digits = 0;
+                } else {
+                    valid = false;
+                    break;
                 }
             }
+            if (valid && digits > 0 && part > 0) {
+                result.add(parts[0], parts[1], parts[2], version.symbol);
+            }
         }
+        return result;
     }
 
     private static String checkObjdumpExists(String objdump, String installInstructions) throws MojoExecutionException {
@@ -163,15 +322,4 @@ public final class GlibcVersionCheckMojo extends AbstractMojo {
         }
         return objdump;
     }
-
-    private static void failure(int major, int minor, int bugfix, int foundMajor,
-                                int foundMinor, int foundBugfix, String function) throws MojoFailureException{
-        throw new MojoFailureException("Required GLIBC " +
-                glibcVersion(foundMajor, foundMinor, foundBugfix) + " > " +
-                glibcVersion(major, minor, bugfix) + ". Required by '" + function + "'.");
-    }
-
-    private static String glibcVersion(int major, int minor, int bugfix) {
-        return major + "." + minor + "." + bugfix;
-    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The metrics of a single native library which drive the time the dynamic linker needs to load it.
+ */
+final class LoadCost {
+
+    final long relocations;
+    // Relative relocations only add the load address, all others need a symbol lookup.
+    final long relativeRelocations;
+    final List<String> neededLibraries;
+    final long exportedSymbols;
+    final boolean textRelocations;
+
+    LoadCost(long relocations, long relativeRelocations, List<String> neededLibraries, long exportedSymbols,
+             boolean textRelocations) {
+        this.relocations = relocations;
+        this.relativeRelocations = Math.min(relativeRelocations, relocations);
+        this.neededLibraries = Collections.unmodifiableList(new ArrayList<String>(neededLibraries));
+        this.exportedSymbols = exportedSymbols;
+        this.textRelocations = textRelocations;
+    }
+
+    long symbolRelocations() {
+        return relocations - relativeRelocations;
+    }
+
+    /**
+     * Returns a description of every limit the library exceeds, a negative limit means unlimited.
+     */
+    List<String> exceeded(long maxRelocations, long maxSymbolRelocations, int maxNeededLibraries,
+                          long maxExportedSymbols, boolean allowTextRelocations) {
+        List<String> exceeded = new ArrayList<String>();
+        if (maxRelocations >= 0 && relocations > maxRelocations) {
+            exceeded.add(relocations + " relocations > " + maxRelocations);
+        }
+        if (maxSymbolRelocations >= 0 && symbolRelocations() > maxSymbolRelocations) {
+            exceeded.add(symbolRelocations() + " symbol relocations > " + maxSymbolRelocations);
+        }
+        if (maxNeededLibraries >= 0 && neededLibraries.size() > maxNeededLibraries) {
+            exceeded.add(neededLibraries.size() + " needed libraries > " + maxNeededLibraries);
+        }
+        if (maxExportedSymbols >= 0 && exportedSymbols > maxExportedSymbols) {
+            exceeded.add(exportedSymbols + " exported symbols > " + maxExportedSymbols);
+        }
+        if (textRelocations && !allowTextRelocations) {
+            exceeded.add("text relocations (TEXTREL)");
+        }
+        return exceeded;
+    }
+
+    @Override
+    public String toString() {
+        return relocations + " relocations (" + relativeRelocations + " relative), " + neededLibraries.size() +
+                " needed libraries " + neededLibraries + ", " + exportedSymbols + " exported symbols" +
+                (textRelocations ? ", TEXTREL" : "");
+    }
+}
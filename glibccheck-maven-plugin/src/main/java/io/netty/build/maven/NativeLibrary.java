@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * A native library to check, either a plain file or an entry of a JAR / ZIP archive. Archive entries are read
+ * straight into memory, so they never need to be extracted to disk.
+ */
+final class NativeLibrary {
+
+    private final String name;
+    private final File file;
+    private final ZipFile archive;
+    private final ZipEntry entry;
+
+    private NativeLibrary(String name, File file, ZipFile archive, ZipEntry entry) {
+        this.name = name;
+        this.file = file;
+        this.archive = archive;
+        this.entry = entry;
+    }
+
+    static NativeLibrary ofFile(File file) {
+        return new NativeLibrary(file.getPath(), file, null, null);
+    }
+
+    static NativeLibrary ofEntry(File archiveFile, ZipFile archive, ZipEntry entry) {
+        return new NativeLibrary(archiveFile.getPath() + "!/" + entry.getName(), null, archive, entry);
+    }
+
+    /**
+     * The name used for reporting, {@code archive!/entry} for archive entries.
+     */
+    String name() {
+        return name;
+    }
+
+    /**
+     * Returns the file of the library or {@code null} if it is an archive entry.
+     */
+    File file() {
+        return file;
+    }
+
+    /**
+     * Returns the content of the library. Files are memory-mapped, archive entries are inflated into a heap buffer.
+     */
+    ByteBuffer content() throws IOException {
+        if (file != null) {
+            return ElfReader.map(file);
+        }
+        long size = entry.getSize();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException(name + " is too large");
+        }
+        byte[] bytes = new byte[size < 0 ? 64 * 1024 : (int) size];
+        int length = 0;
+        InputStream in = archive.getInputStream(entry);
+        try {
+            for (;;) {
+                if (length == bytes.length) {
+                    // The buffer is full, only grow it if there is more data.
+                    int b = in.read();
+                    if (b == -1) {
+                        break;
+                    }
+                    bytes = Arrays.copyOf(bytes, Math.max(bytes.length << 1, 64 * 1024));
+                    bytes[length++] = (byte) b;
+                }
+                int i = in.read(bytes, length, bytes.length - length);
+                if (i == -1) {
+                    break;
+                }
+                length += i;
+            }
+        } finally {
+            in.close();
+        }
+        return ByteBuffer.wrap(bytes, 0, length).slice();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
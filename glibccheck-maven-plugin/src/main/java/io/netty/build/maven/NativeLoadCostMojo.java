@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipFile;
+
+/**
+ * Report and limit the cost of loading native libraries, which matters for short-lived processes.
+ *
+ * For every library the dynamic relocations, the {@code DT_NEEDED} libraries, the exported dynamic symbols and
+ * text relocations ({@code TEXTREL}) are read from its ELF headers and written as JSON to
+ * {@code loadcost.reportFile}. The build fails if a library exceeds one of the {@code loadcost.max*} limits,
+ * which are unlimited by default, or has text relocations unless {@code loadcost.allowTextRelocations} is set.
+ *
+ * The libraries are configured the same way as for the {@code versioncheck} goal.
+ */
+@Mojo(name= "loadcost", defaultPhase = LifecyclePhase.VERIFY)
+public final class NativeLoadCostMojo extends AbstractNativeLibraryMojo {
+
+    @Parameter( property = "loadcost.reportFile", defaultValue = "${project.build.directory}/native-load-cost.json")
+    private File reportFile;
+    // Limits, -1 means unlimited.
+    @Parameter( property = "loadcost.maxRelocations", defaultValue = "-1")
+    private long maxRelocations;
+    @Parameter( property = "loadcost.maxSymbolRelocations", defaultValue = "-1")
+    private long maxSymbolRelocations;
+    @Parameter( property = "loadcost.maxNeededLibraries", defaultValue = "-1")
+    private int maxNeededLibraries;
+    @Parameter( property = "loadcost.maxExportedSymbols", defaultValue = "-1")
+    private long maxExportedSymbols;
+    @Parameter( property = "loadcost.allowTextRelocations", defaultValue = "false")
+    private boolean allowTextRelocations;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        List<ZipFile> archives = new ArrayList<ZipFile>();
+        List<NativeLibrary> libs;
+        List<LoadCost> costs = new ArrayList<LoadCost>();
+        try {
+            libs = nativeLibs(archives);
+            for (NativeLibrary lib : libs) {
+                try {
+                    costs.add(new ElfReader(lib.content()).loadCost());
+                } catch (IOException e) {
+                    throw new MojoExecutionException("Unable to read the ELF dynamic section of " + lib, e);
+                }
+            }
+        } finally {
+            for (ZipFile archive : archives) {
+                closeSilently(archive);
+            }
+        }
+        writeReport(libs, costs);
+
+        List<String> failures = new ArrayList<String>();
+        for (int i = 0; i < libs.size(); i++) {
+            LoadCost cost = costs.get(i);
+            getLog().info(libs.get(i) + ": " + cost);
+            for (String exceeded : cost.exceeded(maxRelocations, maxSymbolRelocations, maxNeededLibraries,
+                    maxExportedSymbols, allowTextRelocations)) {
+                failures.add(libs.get(i) + ": " + exceeded);
+            }
+        }
+        if (!failures.isEmpty()) {
+            StringBuilder sb = new StringBuilder();
+            sb.append("Native libraries exceed the load cost budget:");
+            for (String failure : failures) {
+                sb.append("\n  ").append(failure);
+            }
+            throw new MojoFailureException(sb.toString());
+        }
+    }
+
+    private void writeReport(List<NativeLibrary> libs, List<LoadCost> costs) throws MojoExecutionException {
+        File directory = reportFile.getAbsoluteFile().getParentFile();
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new MojoExecutionException("Unable to create " + directory);
+        }
+        try {
+            Writer writer = new OutputStreamWriter(Files.newOutputStream(reportFile.toPath()),
+                    StandardCharsets.UTF_8);
+            try {
+                writeJson(writer, libs, costs);
+            } finally {
+                writer.close();
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException("Unable to write " + reportFile, e);
+        }
+        getLog().info("Native library load cost report written to " + reportFile);
+    }
+
+    // Package-private for easy testing
+    static void writeJson(Appendable out, List<NativeLibrary> libs, List<LoadCost> costs) throws IOException {
+        out.append("[\n");
+        for (int i = 0; i < libs.size(); i++) {
+            LoadCost cost = costs.get(i);
+            out.append("  {\"library\": ");
+            appendString(out, libs.get(i).name());
+            out.append(", \"relocations\": ").append(String.valueOf(cost.relocations))
+                    .append(", \"relativeRelocations\": ").append(String.valueOf(cost.relativeRelocations))
+                    .append(", \"neededLibraries\": [");
+            for (int j = 0; j < cost.neededLibraries.size(); j++) {
+                if (j > 0) {
+                    out.append(", ");
+                }
+                appendString(out, cost.neededLibraries.get(j));
+            }
+            out.append("], \"exportedSymbols\": ").append(String.valueOf(cost.exportedSymbols))
+                    .append(", \"textRelocations\": ").append(String.valueOf(cost.textRelocations))
+                    .append(i == libs.size() - 1 ? "}\n" : "},\n");
+        }
+        out.append("]\n");
+    }
+
+    private static void appendString(Appendable out, String value) throws IOException {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.append('\\').append(c);
+            } else if (c < 0x20) {
+                out.append(String.format("\\u%04x", (int) c));
+            } else {
+                out.append(c);
+            }
+        }
+        out.append('"');
+    }
+}
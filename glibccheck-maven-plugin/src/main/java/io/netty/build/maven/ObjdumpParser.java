@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Incremental parser for the output of {@code objdump -T}. Bytes can be fed as they are read from the process, so
+ * the output never needs to be buffered as a whole. Every line is scanned by hand and only the names of symbols
+ * which violate the maximal allowed GLIBC version are materialized as {@link String}s.
+ *
+ * A line is accepted if it matches {@code .+ GLIBC_([0-9]).([0-9]+)(.([0-9]+))? (.+)}, which is the pattern
+ * that was used before. In addition the {@code (GLIBC_x.y.z)} notation used by binutils 2.35 and later for
+ * non-default versions is understood.
+ */
+final class ObjdumpParser {
+
+    private static final byte[] GLIBC = "GLIBC_".getBytes(StandardCharsets.US_ASCII);
+
+    private final GlibcCheckResult result;
+    private byte[] line = new byte[256];
+    private int length;
+
+    // Scratch space for the last parsed line to avoid allocations.
+    private int foundMajor;
+    private int foundMinor;
+    private int foundBugfix;
+    private int functionStart;
+
+    ObjdumpParser(GlibcCheckResult result) {
+        this.result = result;
+    }
+
+    void feed(byte[] bytes, int offset, int len) {
+        int end = offset + len;
+        for (int i = offset; i < end; i++) {
+            byte b = bytes[i];
+            if (b == '\n') {
+                parseLine();
+                length = 0;
+            } else {
+                if (length == line.length) {
+                    line = Arrays.copyOf(line, length << 1);
+                }
+                line[length++] = b;
+            }
+        }
+    }
+
+    /**
+     * Parse the last line if it was not terminated and return the result.
+     */
+    GlibcCheckResult finish() {
+        if (length > 0) {
+            parseLine();
+            length = 0;
+        }
+        return result;
+    }
+
+    private void parseLine() {
+        int len = length;
+        if (len > 0 && line[len - 1] == '\r') {
+            len--;
+        }
+        // The leading .+ is greedy, so try the last occurrence of "GLIBC_" first.
+        for (int i = lastIndexOfGlibc(len, len - GLIBC.length); i >= 2; i = lastIndexOfGlibc(len, i - 1)) {
+            boolean parenthesized;
+            if (line[i - 1] == ' ') {
+                parenthesized = false;
+            } else if (i >= 3 && line[i - 1] == '(' && line[i - 2] == ' ') {
+                parenthesized = true;
+            } else {
+                continue;
+            }
+            if (parseVersion(i + GLIBC.length, len, parenthesized)) {
+                if (result.isAllowed(foundMajor, foundMinor, foundBugfix)) {
+                    result.require(foundMajor, foundMinor, foundBugfix);
+                } else {
+                    int start = functionStart;
+                    int end = len;
+                    while (start < end && line[start] <= ' ') {
+                        start++;
+                    }
+                    while (end > start && line[end - 1] <= ' ') {
+                        end--;
+                    }
+                    result.add(foundMajor, foundMinor, foundBugfix,
+                            new String(line, start, end - start, StandardCharsets.UTF_8));
+                }
+                return;
+            }
+        }
+    }
+
+    private int lastIndexOfGlibc(int len, int from) {
+        for (int i = Math.min(from, len - GLIBC.length); i >= 0; i--) {
+            int j = 0;
+            while (j < GLIBC.length && line[i + j] == GLIBC[j]) {
+                j++;
+            }
+            if (j == GLIBC.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Parses ([0-9]).([0-9]+)(.([0-9]+))? (.+) starting at the given index, or ([0-9]).([0-9]+)(.([0-9]+))?\) (.+)
+    // if the version is parenthesized.
+    private boolean parseVersion(int index, int len, boolean parenthesized) {
+        if (index + 2 >= len || !isDigit(line[index])) {
+            return false;
+        }
+        foundMajor = line[index] - '0';
+        // Skip the separator, any character is accepted there.
+        int i = index + 2;
+        int minorStart = i;
+        int minor = 0;
+        while (i < len && isDigit(line[i])) {
+            minor = minor * 10 + line[i++] - '0';
+        }
+        if (i == minorStart) {
+            return false;
+        }
+        foundMinor = minor;
+        if (parenthesized) {
+            int bugfix = 0;
+            if (i + 1 < len && line[i] == '.' && isDigit(line[i + 1])) {
+                i++;
+                while (i < len && isDigit(line[i])) {
+                    bugfix = bugfix * 10 + line[i++] - '0';
+                }
+            }
+            if (i < len && line[i] == ')' && hasFunction(i + 1, len)) {
+                foundBugfix = bugfix;
+                functionStart = i + 2;
+                return true;
+            }
+            return false;
+        }
+
+        // Optional bugfix version, again with an arbitrary separator.
+        if (i + 1 < len && isDigit(line[i + 1])) {
+            int j = i + 1;
+            int bugfix = 0;
+            while (j < len && isDigit(line[j])) {
+                bugfix = bugfix * 10 + line[j++] - '0';
+            }
+            if (hasFunction(j, len)) {
+                foundBugfix = bugfix;
+                functionStart = j + 1;
+                return true;
+            }
+        }
+        if (hasFunction(i, len)) {
+            foundBugfix = 0;
+            functionStart = i + 1;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean hasFunction(int index, int len) {
+        return index + 1 < len && line[index] == ' ';
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ElfReaderTest {
+
+    // Symbol name and the index of the required version (0 = local, 1 = global, 2.. = index into VERSIONS + 2).
+    private static final Object[][] SYMBOLS = {
+            { "memset", 2 },
+            { "pipe2", 3 },
+            { "__gmon_start__", 1 },
+            { "epoll_create", 4 },
+            { "accept4", 5 },
+            { "JNI_OnLoad", 1 },
+            { "__libc_private", 6 },
+    };
+    private static final String[] VERSIONS = { "GLIBC_2.2.5", "GLIBC_2.9", "GLIBC_2.3.2", "GLIBC_2.10",
+            "GLIBC_PRIVATE" };
+
+    @Test
+    public void testElf64LittleEndian() throws IOException {
+        assertSymbols(new ElfReader(ByteBuffer.wrap(elf(true, ByteOrder.LITTLE_ENDIAN))));
+    }
+
+    @Test
+    public void testElf32BigEndian() throws IOException {
+        assertSymbols(new ElfReader(ByteBuffer.wrap(elf(false, ByteOrder.BIG_ENDIAN))));
+    }
+
+    @Test(expected = IOException.class)
+    public void testNotElf() throws IOException {
+        new ElfReader(ByteBuffer.wrap(new byte[64]));
+    }
+
+    @Test(expected = MojoFailureException.class)
+    public void testMaxVersionLower() throws Exception {
+        GlibcVersionCheckMojo.check(2, 9, 0, readElf64());
+    }
+
+    @Test
+    public void testMaxVersionMatch() throws Exception {
+        GlibcVersionCheckMojo.check(2, 10, 0, readElf64());
+    }
+
+    @Test
+    public void testLoadCostElf64LittleEndian() throws IOException {
+        assertLoadCost(new ElfReader(ByteBuffer.wrap(dynamicElf(true, ByteOrder.LITTLE_ENDIAN))).loadCost());
+    }
+
+    @Test
+    public void testLoadCostElf32BigEndian() throws IOException {
+        assertLoadCost(new ElfReader(ByteBuffer.wrap(dynamicElf(false, ByteOrder.BIG_ENDIAN))).loadCost());
+    }
+
+    @Test
+    public void testLoadCostWithoutDynamicSection() throws IOException {
+        LoadCost cost = new ElfReader(ByteBuffer.wrap(elf(true, ByteOrder.LITTLE_ENDIAN))).loadCost();
+        assertEquals(0, cost.relocations);
+        assertEquals(0, cost.neededLibraries.size());
+        assertEquals(0, cost.exportedSymbols);
+        assertFalse(cost.textRelocations);
+    }
+
+    private static void assertLoadCost(LoadCost cost) {
+        // 3 .rela.dyn + 2 .rela.plt + 3 packed relative relocations.
+        assertEquals(8, cost.relocations);
+        assertEquals(5, cost.relativeRelocations);
+        assertEquals(Arrays.asList("libc.so.6", "libdl.so.2"), cost.neededLibraries);
+        assertEquals(1, cost.exportedSymbols);
+        assertTrue(cost.textRelocations);
+    }
+
+    private static List<ElfReader.SymbolVersion> readElf64() throws IOException {
+        return new ElfReader(ByteBuffer.wrap(elf(true, ByteOrder.LITTLE_ENDIAN))).requiredSymbolVersions();
+    }
+
+    private static void assertSymbols(ElfReader reader) throws IOException {
+        List<ElfReader.SymbolVersion> versions = reader.requiredSymbolVersions();
+        assertEquals("[GLIBC_2.2.5 memset, GLIBC_2.9 pipe2, GLIBC_2.3.2 epoll_create, GLIBC_2.10 accept4, " +
+                "GLIBC_PRIVATE __libc_private]", versions.toString());
+    }
+
+    /**
+     * Build a minimal shared object which only contains the sections the reader needs.
+     */
+    static byte[] elf(boolean elf64, ByteOrder order) {
+        ByteArrayOutputStream dynstr = new ByteArrayOutputStream();
+        dynstr.write(0);
+        int libcName = appendString(dynstr, "libc.so.6");
+        int[] versionNames = new int[VERSIONS.length];
+        for (int i = 0; i < VERSIONS.length; i++) {
+            versionNames[i] = appendString(dynstr, VERSIONS[i]);
+        }
+        int[] symbolNames = new int[SYMBOLS.length];
+        for (int i = 0; i < SYMBOLS.length; i++) {
+            symbolNames[i] = appendString(dynstr, (String) SYMBOLS[i][0]);
+        }
+
+        int ehsize = elf64 ? 64 : 52;
+        int shentsize = elf64 ? 64 : 40;
+        int symsize = elf64 ? 24 : 16;
+        int dynstrOffset = ehsize;
+        int dynsymOffset = align(dynstrOffset + dynstr.size());
+        int dynsymSize = symsize * (SYMBOLS.length + 1);
+        int versymOffset = align(dynsymOffset + dynsymSize);
+        int versymSize = 2 * (SYMBOLS.length + 1);
+        int verneedOffset = align(versymOffset + versymSize);
+        int verneedSize = 16 + 16 * VERSIONS.length;
+        int shoff = align(verneedOffset + verneedSize);
+        int shnum = 5;
+
+        ByteBuffer buf = ByteBuffer.allocate(shoff + shentsize * shnum).order(order);
+        buf.put(new byte[] { 0x7f, 'E', 'L', 'F', (byte) (elf64 ? 2 : 1),
+                (byte) (order == ByteOrder.LITTLE_ENDIAN ? 1 : 2), 1 });
+        if (elf64) {
+            buf.putLong(0x28, shoff);
+            buf.putShort(0x3a, (short) shentsize);
+            buf.putShort(0x3c, (short) shnum);
+        } else {
+            buf.putInt(0x20, shoff);
+            buf.putShort(0x2e, (short) shentsize);
+            buf.putShort(0x30, (short) shnum);
+        }
+
+        byte[] strings = dynstr.toByteArray();
+        for (int i = 0; i < strings.length; i++) {
+            buf.put(dynstrOffset + i, strings[i]);
+        }
+        for (int i = 0; i < SYMBOLS.length; i++) {
+            // Only st_name matters, it is the first field for both classes.
+            buf.putInt(dynsymOffset + symsize * (i + 1), symbolNames[i]);
+            buf.putShort(versymOffset + 2 * (i + 1), (short) ((Integer) SYMBOLS[i][1]).intValue());
+        }
+        buf.putShort(verneedOffset, (short) 1);
+        buf.putShort(verneedOffset + 2, (short) VERSIONS.length);
+        buf.putInt(verneedOffset + 4, libcName);
+        buf.putInt(verneedOffset + 8, 16);
+        for (int i = 0; i < VERSIONS.length; i++) {
+            int aux = verneedOffset + 16 + 16 * i;
+            buf.putShort(aux + 6, (short) (i + 2));
+            buf.putInt(aux + 8, versionNames[i]);
+            buf.putInt(aux + 12, i == VERSIONS.length - 1 ? 0 : 16);
+        }
+
+        // null, .dynstr, .dynsym, .gnu.version, .gnu.version_r
+        sectionHeader(buf, elf64, shoff + shentsize, 3, dynstrOffset, strings.length, 0, 0);
+        sectionHeader(buf, elf64, shoff + shentsize * 2, 11, dynsymOffset, dynsymSize, 1, 1);
+        sectionHeader(buf, elf64, shoff + shentsize * 3, 0x6fffffff, versymOffset, versymSize, 2, 0);
+        sectionHeader(buf, elf64, shoff + shentsize * 4, 0x6ffffffe, verneedOffset, verneedSize, 1, 1);
+        return buf.array();
+    }
+
+    /**
+     * Build a minimal shared object with a {@code .dynamic}, {@code .dynsym} and {@code .relr.dyn} section.
+     */
+    static byte[] dynamicElf(boolean elf64, ByteOrder order) {
+        ByteArrayOutputStream dynstr = new ByteArrayOutputStream();
+        dynstr.write(0);
+        int libc = appendString(dynstr, "libc.so.6");
+        int libdl = appendString(dynstr, "libdl.so.2");
+        int relaEntry = elf64 ? 24 : 12;
+        long[] dynamic = {
+                1, libc, // DT_NEEDED
+                1, libdl, // DT_NEEDED
+                8, 3 * relaEntry, // DT_RELASZ
+                9, relaEntry, // DT_RELAENT
+                2, 2 * relaEntry, // DT_PLTRELSZ
+                20, 7, // DT_PLTREL = DT_RELA
+                0x6ffffff9, 2, // DT_RELACOUNT
+                30, 0x4, // DT_FLAGS = DF_TEXTREL
+                0, 0, // DT_NULL
+        };
+        // An address and a bitmap with two more relocations.
+        long[] relr = { 0x1000, 0xb };
+        // binding << 4 | type, visibility, section index: imported, exported, hidden and local symbol.
+        int[][] symbols = { { 0x12, 0, 0 }, { 0x12, 0, 5 }, { 0x12, 2, 5 }, { 0x02, 0, 5 } };
+
+        int ehsize = elf64 ? 64 : 52;
+        int shentsize = elf64 ? 64 : 40;
+        int symsize = elf64 ? 24 : 16;
+        int word = elf64 ? 8 : 4;
+        int dynstrOffset = ehsize;
+        int dynsymOffset = align(dynstrOffset + dynstr.size());
+        int dynsymSize = symsize * (symbols.length + 1);
+        int dynamicOffset = align(dynsymOffset + dynsymSize);
+        int dynamicSize = word * dynamic.length;
+        int relrOffset = align(dynamicOffset + dynamicSize);
+        int relrSize = word * relr.length;
+        int shoff = align(relrOffset + relrSize);
+        int shnum = 5;
+
+        ByteBuffer buf = ByteBuffer.allocate(shoff + shentsize * shnum).order(order);
+        buf.put(new byte[] { 0x7f, 'E', 'L', 'F', (byte) (elf64 ? 2 : 1),
+                (byte) (order == ByteOrder.LITTLE_ENDIAN ? 1 : 2), 1 });
+        if (elf64) {
+            buf.putLong(0x28, shoff);
+            buf.putShort(0x3a, (short) shentsize);
+            buf.putShort(0x3c, (short) shnum);
+        } else {
+            buf.putInt(0x20, shoff);
+            buf.putShort(0x2e, (short) shentsize);
+            buf.putShort(0x30, (short) shnum);
+        }
+
+        byte[] strings = dynstr.toByteArray();
+        for (int i = 0; i < strings.length; i++) {
+            buf.put(dynstrOffset + i, strings[i]);
+        }
+        for (int i = 0; i < symbols.length; i++) {
+            int symbol = dynsymOffset + symsize * (i + 1);
+            buf.put(symbol + (elf64 ? 4 : 12), (byte) symbols[i][0]);
+            buf.put(symbol + (elf64 ? 5 : 13), (byte) symbols[i][1]);
+            buf.putShort(symbol + (elf64 ? 6 : 14), (short) symbols[i][2]);
+        }
+        for (int i = 0; i < dynamic.length; i++) {
+            putWord(buf, elf64, dynamicOffset + word * i, dynamic[i]);
+        }
+        for (int i = 0; i < relr.length; i++) {
+            putWord(buf, elf64, relrOffset + word * i, relr[i]);
+        }
+
+        // null, .dynstr, .dynsym, .dynamic, .relr.dyn
+        sectionHeader(buf, elf64, shoff + shentsize, 3, dynstrOffset, strings.length, 0, 0);
+        sectionHeader(buf, elf64, shoff + shentsize * 2, 11, dynsymOffset, dynsymSize, 1, 1);
+        sectionHeader(buf, elf64, shoff + shentsize * 3, 6, dynamicOffset, dynamicSize, 1, 0);
+        sectionHeader(buf, elf64, shoff + shentsize * 4, 19, relrOffset, relrSize, 0, 0);
+        return buf.array();
+    }
+
+    private static void putWord(ByteBuffer buf, boolean elf64, int offset, long value) {
+        if (elf64) {
+            buf.putLong(offset, value);
+        } else {
+            buf.putInt(offset, (int) value);
+        }
+    }
+
+    private static void sectionHeader(ByteBuffer buf, boolean elf64, int header, int type, int offset, int size,
+                                      int link, int info) {
+        buf.putInt(header + 4, type);
+        if (elf64) {
+            buf.putLong(header + 0x18, offset);
+            buf.putLong(header + 0x20, size);
+            buf.putInt(header + 0x28, link);
+            buf.putInt(header + 0x2c, info);
+        } else {
+            buf.putInt(header + 0x10, offset);
+            buf.putInt(header + 0x14, size);
+            buf.putInt(header + 0x18, link);
+            buf.putInt(header + 0x1c, info);
+        }
+    }
+
+    private static int appendString(ByteArrayOutputStream out, String str) {
+        int offset = out.size();
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        out.write(bytes, 0, bytes.length);
+        out.write(0);
+        return offset;
+    }
+
+    private static int align(int offset) {
+        return (offset + 7) & ~7;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+public class GlibcCheckCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        GlibcCheckCache cache = new GlibcCheckCache(new File(folder.getRoot(), "cache"));
+        String key = GlibcCheckCache.key(ByteBuffer.wrap(new byte[] { 1, 2, 3 }), 2, 9, 0);
+        assertNull(cache.get(key, 2, 9, 0));
+
+        GlibcCheckResult result = new GlibcCheckResult(2, 9, 0);
+        result.add(2, 2, 5, "memset");
+        result.add(2, 10, 0, "accept4");
+        result.add(2, 9, 1, "other");
+        cache.put(key, result);
+
+        GlibcCheckResult cached = cache.get(key, 2, 9, 0);
+        assertEquals("2.10.0", cached.requiredVersion());
+        assertEquals("[2.10.0 accept4, 2.9.1 other]", cached.violations().toString());
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    public void testNoRequiredVersion() throws Exception {
+        GlibcCheckCache cache = new GlibcCheckCache(folder.getRoot());
+        String key = GlibcCheckCache.key(ByteBuffer.wrap(new byte[0]), 2, 9, 0);
+        cache.put(key, new GlibcCheckResult(2, 9, 0));
+
+        GlibcCheckResult cached = cache.get(key, 2, 9, 0);
+        assertNull(cached.requiredVersion());
+        assertEquals(0, cached.violations().size());
+    }
+
+    @Test
+    public void testKeyDependsOnContentAndVersion() {
+        ByteBuffer content = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+        String key = GlibcCheckCache.key(content, 2, 9, 0);
+        assertEquals(key, GlibcCheckCache.key(content, 2, 9, 0));
+        assertNotEquals(key, GlibcCheckCache.key(content, 2, 10, 0));
+        assertNotEquals(key, GlibcCheckCache.key(ByteBuffer.wrap(new byte[] { 1, 2, 4 }), 2, 9, 0));
+    }
+
+    @Test
+    public void testCorruptEntryIsMiss() throws Exception {
+        GlibcCheckCache cache = new GlibcCheckCache(folder.getRoot());
+        String key = GlibcCheckCache.key(ByteBuffer.wrap(new byte[] { 1 }), 2, 9, 0);
+        Files.write(new File(folder.getRoot(), key).toPath(),
+                "v1\nrequired=2.x\n".getBytes(StandardCharsets.UTF_8));
+        assertNull(cache.get(key, 2, 9, 0));
+        assertEquals(1, cache.misses());
+    }
+}
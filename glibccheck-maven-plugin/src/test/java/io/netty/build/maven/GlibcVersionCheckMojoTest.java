@@ -16,11 +16,26 @@
 package io.netty.build.maven;
 
 import org.apache.maven.plugin.MojoFailureException;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 public class GlibcVersionCheckMojoTest {
 
-    private static final String OBJDUMP_OUTPUT = "\n" +
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    static final String OBJDUMP_OUTPUT = "\n" +
             "/tmp/libnetty_transport_native_epoll_x86_64.so:     file format elf64-x86-64\n" +
             "\n" +
             "DYNAMIC SYMBOL TABLE:\n" +
@@ -114,4 +129,57 @@ public class GlibcVersionCheckMojoTest {
     public void testMaxVersionHigher() throws MojoFailureException {
         GlibcVersionCheckMojo.check(2,10, 1, OBJDUMP_OUTPUT);
     }
+
+    @Test
+    public void testAllViolationsReported() {
+        try {
+            GlibcVersionCheckMojo.check(2, 8, 1, OBJDUMP_OUTPUT);
+            fail();
+        } catch (MojoFailureException e) {
+            assertEquals("Required GLIBC 2.10.0 > 2.8.1. Required by 3 symbols:\n" +
+                    "    2.9.0 'epoll_create1'\n" +
+                    "    2.9.0 'pipe2'\n" +
+                    "    2.10.0 'accept4'", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testSingleViolationReported() {
+        try {
+            GlibcVersionCheckMojo.check(2, 9, 0, OBJDUMP_OUTPUT);
+            fail();
+        } catch (MojoFailureException e) {
+            assertEquals("Required GLIBC 2.10.0 > 2.9.0. Required by 'accept4'.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testMultipleLibrariesAllViolationsReported() throws Exception {
+        List<NativeLibrary> libs = Arrays.asList(
+                library("libelf64.so", ElfReaderTest.elf(true, ByteOrder.LITTLE_ENDIAN)),
+                library("libunversioned.so", ElfReaderTest.dynamicElf(true, ByteOrder.LITTLE_ENDIAN)),
+                library("libelf32.so", ElfReaderTest.elf(false, ByteOrder.BIG_ENDIAN)));
+        try {
+            new GlibcVersionCheckMojo().checkLibraries(libs, 2, 3, 2);
+            fail();
+        } catch (MojoFailureException e) {
+            String violations = ": Required GLIBC 2.10.0 > 2.3.2. Required by 2 symbols:\n" +
+                    "    2.9.0 'pipe2'\n" +
+                    "    2.10.0 'accept4'";
+            assertEquals("2 of 3 native libraries require a GLIBC version > 2.3.2:\n" +
+                    "  " + libs.get(0) + violations + "\n" +
+                    "  " + libs.get(2) + violations, e.getMessage());
+        }
+    }
+
+    private NativeLibrary library(String name, byte[] content) throws IOException {
+        File file = folder.newFile(name);
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(content);
+        } finally {
+            out.close();
+        }
+        return NativeLibrary.ofFile(file);
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.Assert.assertEquals;
+
+public class NativeLibraryTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testArchiveEntry() throws Exception {
+        byte[] elf = ElfReaderTest.elf(true, ByteOrder.LITTLE_ENDIAN);
+        File jar = folder.newFile("native.jar");
+        ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar));
+        try {
+            out.putNextEntry(new ZipEntry("META-INF/native/libtest.so"));
+            out.write(elf);
+            out.closeEntry();
+        } finally {
+            out.close();
+        }
+
+        ZipFile archive = new ZipFile(jar);
+        try {
+            NativeLibrary lib = NativeLibrary.ofEntry(jar, archive, archive.getEntry("META-INF/native/libtest.so"));
+            assertEquals(jar.getPath() + "!/META-INF/native/libtest.so", lib.name());
+            ByteBuffer content = lib.content();
+            assertEquals(ByteBuffer.wrap(elf), content);
+            assertEquals(5, new ElfReader(content).requiredSymbolVersions().size());
+        } finally {
+            archive.close();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class NativeLoadCostMojoTest {
+
+    @Test
+    public void testUnlimited() throws Exception {
+        assertEquals(Collections.<String>emptyList(), loadCost().exceeded(-1, -1, -1, -1, true));
+    }
+
+    @Test
+    public void testWithinBudget() throws Exception {
+        assertEquals(Collections.<String>emptyList(), loadCost().exceeded(8, 3, 2, 1, true));
+    }
+
+    @Test
+    public void testBudgetExceeded() throws Exception {
+        assertEquals(Arrays.asList("8 relocations > 7", "3 symbol relocations > 2", "2 needed libraries > 1",
+                "1 exported symbols > 0", "text relocations (TEXTREL)"), loadCost().exceeded(7, 2, 1, 0, false));
+    }
+
+    @Test
+    public void testJsonReport() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        NativeLoadCostMojo.writeJson(sb, Collections.singletonList(NativeLibrary.ofFile(new File("lib\"test\".so"))),
+                Collections.singletonList(loadCost()));
+        assertEquals("[\n" +
+                "  {\"library\": \"lib\\\"test\\\".so\", \"relocations\": 8, \"relativeRelocations\": 5, " +
+                "\"neededLibraries\": [\"libc.so.6\", \"libdl.so.2\"], \"exportedSymbols\": 1, " +
+                "\"textRelocations\": true}\n" +
+                "]\n", sb.toString());
+    }
+
+    private static LoadCost loadCost() throws Exception {
+        return new ElfReader(ByteBuffer.wrap(ElfReaderTest.dynamicElf(true, ByteOrder.LITTLE_ENDIAN))).loadCost();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty.build.maven;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+
+public class ObjdumpParserTest {
+
+    // The pattern that was used to parse the objdump output before, the parser must accept the same lines.
+    private static final Pattern GLIBC_PATTERN = Pattern.compile(".+ GLIBC_([0-9]).([0-9]+)(.([0-9]+))? (.+)");
+
+    @Test
+    public void testMatchesRegex() {
+        String[] lines = GlibcVersionCheckMojoTest.OBJDUMP_OUTPUT.split("\n");
+        for (String line : lines) {
+            assertSameAsRegex(line);
+        }
+        assertSameAsRegex("0000000000000000      DF *UND*\t0000000000000000  GLIBC_2.9 5sym");
+        assertSameAsRegex("0000000000000000      DF *UND*\t0000000000000000  GLIBC_2.12x foo");
+        assertSameAsRegex("0000000000000000      DF *UND*\t0000000000000000  GLIBC_2.3.4  spaced  ");
+        assertSameAsRegex("0000000000000000      DF *UND*\t0000000000000000  GLIBC_PRIVATE __libc_foo");
+        assertSameAsRegex("0000000000000000      DF *UND*\t0000000000000000  GLIBC_2.2.5 GLIBC_2.9 x");
+        assertSameAsRegex(" GLIBC_2.9 leading");
+        assertSameAsRegex("x GLIBC_2.9 ");
+        assertSameAsRegex("x GLIBC_2.9");
+    }
+
+    @Test
+    public void testParenthesizedVersion() {
+        // binutils >= 2.35 prints non-default versions in parentheses.
+        assertEquals("[2.34.0 pthread_join]", parse(
+                "0000000000000000      DF *UND*\t0000000000000000 (GLIBC_2.34) pthread_join"));
+        assertEquals("[2.2.5 memset]", parse(
+                "0000000000000000      DF *UND*\t0000000000000000 (GLIBC_2.2.5) memset"));
+        assertEquals("[]", parse("0000000000000000      DF *UND*\t0000000000000000 (GLIBC_2.2.5 memset"));
+        assertEquals("[]", parse("0000000000000000      DF *UND*\t0000000000000000 (GLIBC_PRIVATE) x"));
+    }
+
+    @Test
+    public void testChunkedInput() {
+        byte[] bytes = GlibcVersionCheckMojoTest.OBJDUMP_OUTPUT.getBytes(StandardCharsets.UTF_8);
+        ObjdumpParser parser = new ObjdumpParser(new GlibcCheckResult(2, 8, 1));
+        for (int i = 0; i < bytes.length; i++) {
+            parser.feed(bytes, i, 1);
+        }
+        GlibcCheckResult result = parser.finish();
+        assertEquals("2.10.0", result.requiredVersion());
+        assertEquals("[2.9.0 pipe2, 2.9.0 epoll_create1, 2.10.0 accept4]", result.violations().toString());
+    }
+
+    private static void assertSameAsRegex(String line) {
+        Matcher matcher = GLIBC_PATTERN.matcher(line);
+        String expected = "[]";
+        if (matcher.matches()) {
+            expected = "[" + matcher.group(1) + '.' + matcher.group(2) + '.' +
+                    (matcher.group(4) == null ? "0" : matcher.group(4)) + ' ' + matcher.group(5).trim() + ']';
+        }
+        assertEquals(line, expected, parse(line));
+    }
+
+    private static String parse(String line) {
+        // Allow nothing, so every parsed line shows up as violation.
+        ObjdumpParser parser = new ObjdumpParser(new GlibcCheckResult(0, 0, 0));
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        parser.feed(bytes, 0, bytes.length);
+        return parser.finish().violations().toString();
+    }
+}